@@ -2,8 +2,10 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -15,9 +17,14 @@ import seedu.address.commons.util.ToStringBuilder;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** Script path that stands for the standard input. */
+    public static final Path STANDARD_INPUT = Paths.get("-");
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path scriptPath;
+    private Integer commandsPerSave;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +34,55 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script to run without the GUI, or null if the GUI should be started.
+     * The script is read from the standard input if the path is {@link #STANDARD_INPUT}.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns the number of changing commands of a script to run between saves, or an empty {@code Optional} if
+     * the address book should be saved only once the script ends.
+     */
+    public Optional<Integer> getCommandsPerSave() {
+        return Optional.ofNullable(commandsPerSave);
+    }
+
+    public void setCommandsPerSave(Integer commandsPerSave) {
+        this.commandsPerSave = commandsPerSave;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw application command-line arguments, before the JavaFX toolkit is started.
+     * As in {@link Application.Parameters#getNamed()}, named parameters take the form {@code --name=value} and
+     * other arguments are ignored.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,6 +91,22 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("script");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". Starting the GUI instead.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
+        String commandsPerSaveParameter = namedParameters.get("save-every");
+        if (commandsPerSaveParameter != null && !commandsPerSaveParameter.matches("0*[1-9]\\d{0,8}")) {
+            logger.warning("Invalid number of commands per save " + commandsPerSaveParameter
+                    + ". Saving once the script ends.");
+            commandsPerSaveParameter = null;
+        }
+        appParameters.setCommandsPerSave(commandsPerSaveParameter != null
+                ? Integer.parseInt(commandsPerSaveParameter) : null);
+
         return appParameters;
     }
 
@@ -56,18 +122,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && Objects.equals(commandsPerSave, otherAppParameters.commandsPerSave);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, commandsPerSave);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
+                .add("commandsPerSave", commandsPerSave)
                 .toString();
     }
 }
@@ -0,0 +1,122 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads the records of comma-separated values from a {@code Reader} one at a time, so that a file of any size can
+ * be read without holding all of it in memory.
+ * <p>
+ * Fields may be enclosed in double quotes, in which case they can contain commas, line breaks, and double quotes
+ * written twice. Records may end with {@code \n} or {@code \r\n}.
+ */
+public class CsvReader {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "Quoted field starting on line %d is never closed.";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "Unexpected text after a closing quote on line %d.";
+
+    private static final int END_OF_INPUT = -1;
+
+    private final Reader reader;
+
+    private int lineNumber = 1;
+    private int recordLineNumber;
+    private boolean isAtEndOfInput;
+
+    /**
+     * Creates a {@code CsvReader} that reads from {@code reader}.
+     * The caller remains responsible for closing {@code reader}.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the line number on which the last record returned by {@link #readRecord()} starts.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    /**
+     * Reads the next record, or returns an empty {@code Optional} if there are no more records.
+     * A blank line is read as a record of one empty field.
+     *
+     * @throws IOException if the input cannot be read or is not well-formed.
+     */
+    public Optional<List<String>> readRecord() throws IOException {
+        if (isAtEndOfInput) {
+            return Optional.empty();
+        }
+        int c = reader.read();
+        if (c == END_OF_INPUT) {
+            isAtEndOfInput = true;
+            return Optional.empty();
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        while (true) {
+            if (c == '"' && field.length() == 0) {
+                c = readQuotedField(field);
+            }
+
+            if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == END_OF_INPUT) {
+                fields.add(stripCarriageReturn(field));
+                isAtEndOfInput = c == END_OF_INPUT;
+                lineNumber++;
+                return Optional.of(fields);
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    /**
+     * Appends the rest of a quoted field, whose opening quote has just been read, to {@code field}.
+     *
+     * @return the character after the closing quote.
+     */
+    private int readQuotedField(StringBuilder field) throws IOException {
+        int startLineNumber = lineNumber;
+        while (true) {
+            int c = reader.read();
+            if (c == END_OF_INPUT) {
+                throw new IOException(String.format(MESSAGE_UNCLOSED_QUOTE, startLineNumber));
+            } else if (c == '"') {
+                int next = reader.read();
+                if (next != '"') {
+                    if (next != ',' && next != '\n' && next != '\r' && next != END_OF_INPUT) {
+                        throw new IOException(String.format(MESSAGE_TEXT_AFTER_QUOTE, lineNumber));
+                    }
+                    return next;
+                }
+                field.append('"');
+            } else {
+                if (c == '\n') {
+                    lineNumber++;
+                }
+                field.append((char) c);
+            }
+        }
+    }
+
+    private static String stripCarriageReturn(StringBuilder field) {
+        int length = field.length();
+        if (length > 0 && field.charAt(length - 1) == '\r') {
+            field.setLength(length - 1);
+        }
+        return field.toString();
+    }
+}
@@ -1,10 +1,20 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +22,11 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final long MAPPED_READ_THRESHOLD = 1024 * 1024;
+    private static final boolean IS_MAPPED_READ_SUPPORTED =
+            !System.getProperty("os.name", "").toLowerCase().startsWith("windows");
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,12 +87,137 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Opens a file for reading as a stream.
+     * Files of at least 1 MiB are mapped into memory rather than read through heap buffers, so that their content is
+     * served straight from the operating system's page cache.
+     */
+    public static InputStream openInputStream(Path file) throws IOException {
+        return openInputStream(file, MAPPED_READ_THRESHOLD);
+    }
+
+    /**
+     * Similar to {@link #openInputStream(Path)}, mapping files of at least {@code mappedReadThreshold} bytes.
+     * Files are never mapped on Windows, where a mapped file cannot be replaced until it is unmapped by the garbage
+     * collector, which would make {@link #writeToFile(Path, ContentWriter)} fail.
+     */
+    static InputStream openInputStream(Path file, long mappedReadThreshold) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (IS_MAPPED_READ_SUPPORTED && size >= mappedReadThreshold && size <= Integer.MAX_VALUE) {
+                // The mapping stays valid after the channel is closed.
+                return new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+        }
+        return new BufferedInputStream(Files.newInputStream(file));
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFile(Path, ContentWriter)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, through a buffered stream.
+     * Will create the file if it does not exist yet.
+     * The content is first written to a temporary file next to {@code file}, which is forced to the storage device
+     * and then moved in place of {@code file}, so that a crash in the middle of a write never leaves a partially
+     * written {@code file} behind.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        createParentDirsOfFile(absoluteFile);
+        Path tempFile = absoluteFile.resolveSibling(absoluteFile.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            replaceFile(tempFile, absoluteFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Replaces {@code backupFile} with a copy of {@code file}, if {@code file} exists.
+     * The copy is made by hard linking {@code backupFile} to {@code file} where the file system allows it, which is
+     * cheap and remains valid as {@link #writeToFile(Path, String)} replaces rather than overwrites {@code file}.
+     */
+    public static void backUpFile(Path file, Path backupFile) throws IOException {
+        if (!isFileExists(file)) {
+            return;
+        }
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Moves {@code source} in place of {@code target}, atomically if the file system supports it.
+     */
+    private static void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}. Implementations should not close {@code out}.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * An {@code InputStream} that reads the remaining bytes of a {@code ByteBuffer}.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
     }
 
 }
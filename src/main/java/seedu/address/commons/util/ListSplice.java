@@ -0,0 +1,135 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the replacement of a contiguous range of a list with new elements, i.e. the removal of
+ * {@code removedCount} elements starting at {@code index}, followed by the insertion of {@code insertedElements}
+ * at the same index.
+ * Elements are compared by identity when computing splices, which is sufficient for lists of immutable objects.
+ */
+public class ListSplice<T> {
+
+    private final int index;
+    private final int removedCount;
+    private final List<T> insertedElements;
+
+    /**
+     * Constructs a {@code ListSplice}.
+     */
+    public ListSplice(int index, int removedCount, List<? extends T> insertedElements) {
+        requireNonNull(insertedElements);
+        AppUtil.checkArgument(index >= 0 && removedCount >= 0);
+        this.index = index;
+        this.removedCount = removedCount;
+        this.insertedElements = Collections.unmodifiableList(new ArrayList<>(insertedElements));
+    }
+
+    /**
+     * Returns the splices that turn {@code before} into {@code after}, in the order they should be applied.
+     * Elements shared by both lists at their start or end are left alone. If the elements in between are equal in
+     * number, each run of replaced elements becomes its own splice; otherwise, they are replaced by a single splice.
+     * Returns an empty list if both lists hold the same elements.
+     */
+    public static <T> List<ListSplice<T>> between(List<? extends T> before, List<? extends T> after) {
+        requireNonNull(before);
+        requireNonNull(after);
+        List<ListSplice<T>> splices = new ArrayList<>();
+
+        int shorterSize = Math.min(before.size(), after.size());
+        int prefix = 0;
+        while (prefix < shorterSize && before.get(prefix) == after.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < shorterSize - prefix
+                && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+            suffix++;
+        }
+        int beforeEnd = before.size() - suffix;
+        int afterEnd = after.size() - suffix;
+
+        if (beforeEnd != afterEnd) {
+            splices.add(new ListSplice<>(prefix, beforeEnd - prefix, after.subList(prefix, afterEnd)));
+            return splices;
+        }
+
+        int i = prefix;
+        while (i < beforeEnd) {
+            if (before.get(i) == after.get(i)) {
+                i++;
+                continue;
+            }
+            int runStart = i;
+            while (i < beforeEnd && before.get(i) != after.get(i)) {
+                i++;
+            }
+            splices.add(new ListSplice<>(runStart, i - runStart, after.subList(runStart, i)));
+        }
+        return splices;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    public List<T> getInsertedElements() {
+        return insertedElements;
+    }
+
+    /**
+     * Applies this splice to {@code list} in place.
+     *
+     * @throws IndexOutOfBoundsException if the range replaced by this splice does not lie within {@code list}.
+     */
+    public void applyTo(List<T> list) {
+        requireNonNull(list);
+        if (index + removedCount > list.size()) {
+            throw new IndexOutOfBoundsException("Splice [" + index + ", " + (index + removedCount)
+                    + ") does not fit a list of size " + list.size());
+        }
+        List<T> replacedRange = list.subList(index, index + removedCount);
+        replacedRange.clear();
+        replacedRange.addAll(insertedElements);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListSplice)) {
+            return false;
+        }
+
+        ListSplice<?> otherSplice = (ListSplice<?>) other;
+        return index == otherSplice.index
+                && removedCount == otherSplice.removedCount
+                && insertedElements.equals(otherSplice.insertedElements);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, removedCount, insertedElements);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("index", index)
+                .add("removedCount", removedCount)
+                .add("insertedElements", insertedElements)
+                .toString();
+    }
+}
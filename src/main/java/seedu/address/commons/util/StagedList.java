@@ -0,0 +1,217 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A list that is changed by applying {@code ListSplice}s, and that publishes its changes to an observable view.
+ * <p>
+ * Outside a batch, each change is published to the view as it is made. Changes made between {@link #beginBatch()}
+ * and {@link #commitBatch()} are applied to the list straight away, but held back from the view, which keeps
+ * showing the list as it was when the batch began. Committing publishes them to the view as a single change, while
+ * {@link #rollbackBatch()} undoes them instead. Either way, a batch costs as much as the elements it changed,
+ * however long the list is.
+ */
+public class StagedList<E> {
+
+    private final List<E> elements = new ArrayList<>();
+    private final List<E> unmodifiableElements = Collections.unmodifiableList(elements);
+    private final View<E> view = new View<>();
+    private final Consumer<? super E> onAdded;
+    private final Consumer<? super E> onRemoved;
+
+    /** Splices made in the current batch, in the order they were made, or null if there is no batch. */
+    private List<ListSplice<E>> batchSplices;
+    /** Splices that undo each of {@code batchSplices}. */
+    private List<ListSplice<E>> batchUndoSplices;
+
+    /**
+     * Creates an empty list that calls {@code onAdded} with every element added to it and {@code onRemoved} with
+     * every element removed from it, as they are added or removed.
+     */
+    public StagedList(Consumer<? super E> onAdded, Consumer<? super E> onRemoved) {
+        requireNonNull(onAdded);
+        requireNonNull(onRemoved);
+        this.onAdded = onAdded;
+        this.onRemoved = onRemoved;
+    }
+
+    public int size() {
+        return elements.size();
+    }
+
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * Returns the elements of this list as an unmodifiable list, including any changes made in the current batch.
+     */
+    public List<E> asUnmodifiableList() {
+        return unmodifiableElements;
+    }
+
+    /**
+     * Returns the elements of this list as an unmodifiable {@code ObservableList}, which only shows the changes that
+     * have been published.
+     */
+    public ObservableList<E> asUnmodifiableObservableList() {
+        return view;
+    }
+
+    /**
+     * Applies {@code splice} to this list. It is published to the view straight away, unless a batch is in progress.
+     *
+     * @throws IndexOutOfBoundsException if the range replaced by {@code splice} does not lie within this list.
+     */
+    public void splice(ListSplice<E> splice) {
+        requireNonNull(splice);
+        List<E> removed = apply(splice);
+        if (batchSplices == null) {
+            view.spliceAll(List.of(splice));
+            return;
+        }
+
+        batchSplices.add(splice);
+        batchUndoSplices.add(new ListSplice<>(splice.getIndex(), splice.getInsertedElements().size(), removed));
+    }
+
+    /**
+     * Starts holding back the changes made to this list from its view.
+     *
+     * @throws IllegalStateException if a batch is already in progress.
+     */
+    public void beginBatch() {
+        if (batchSplices != null) {
+            throw new IllegalStateException("A batch is already in progress.");
+        }
+        batchSplices = new ArrayList<>();
+        batchUndoSplices = new ArrayList<>();
+    }
+
+    /**
+     * Publishes the changes made in the current batch to the view as a single change. Nothing is published if no
+     * changes were made.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void commitBatch() {
+        List<ListSplice<E>> splices = endBatch();
+        if (!splices.isEmpty()) {
+            view.spliceAll(splices);
+        }
+    }
+
+    /**
+     * Undoes the changes made in the current batch, which were never published.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void rollbackBatch() {
+        List<ListSplice<E>> undoSplices = batchUndoSplices;
+        endBatch();
+        for (int i = undoSplices.size() - 1; i >= 0; i--) {
+            apply(undoSplices.get(i));
+        }
+    }
+
+    private List<ListSplice<E>> endBatch() {
+        if (batchSplices == null) {
+            throw new IllegalStateException("No batch is in progress.");
+        }
+        List<ListSplice<E>> splices = batchSplices;
+        batchSplices = null;
+        batchUndoSplices = null;
+        return splices;
+    }
+
+    /**
+     * Applies {@code splice} to the elements, without publishing it, and returns the elements it removed.
+     */
+    private List<E> apply(ListSplice<E> splice) {
+        int from = splice.getIndex();
+        int to = from + splice.getRemovedCount();
+        if (to > elements.size()) {
+            throw new IndexOutOfBoundsException("Splice does not fit a list of size " + elements.size());
+        }
+
+        List<E> removed = new ArrayList<>(elements.subList(from, to));
+        splice.applyTo(elements);
+        removed.forEach(onRemoved);
+        splice.getInsertedElements().forEach(onAdded);
+        return removed;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StagedList)) {
+            return false;
+        }
+
+        StagedList<?> otherList = (StagedList<?>) other;
+        return elements.equals(otherList.elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return elements.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return elements.toString();
+    }
+
+    /**
+     * The published elements of a {@code StagedList}, which are only changed by publishing splices to them.
+     */
+    private static class View<E> extends ObservableListBase<E> {
+        private final List<E> elements = new ArrayList<>();
+
+        /**
+         * Applies {@code splices} in order, and notifies the listeners of all of them as a single change.
+         */
+        void spliceAll(List<ListSplice<E>> splices) {
+            beginChange();
+            try {
+                for (ListSplice<E> splice : splices) {
+                    int from = splice.getIndex();
+                    int to = from + splice.getInsertedElements().size();
+                    List<E> removed = new ArrayList<>(elements.subList(from, from + splice.getRemovedCount()));
+                    splice.applyTo(elements);
+                    if (!removed.isEmpty() && from < to) {
+                        nextReplace(from, to, removed);
+                    } else if (!removed.isEmpty()) {
+                        nextRemove(from, removed);
+                    } else if (from < to) {
+                        nextAdd(from, to);
+                    }
+                }
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        public E get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
+}
@@ -6,6 +6,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +41,19 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the words of {@code sentence} in lower case, in the order they appear.
+     * Words are separated by whitespace, as in {@link #containsWordIgnoreCase(String, String)}, so
+     * {@code containsWordIgnoreCase(sentence, word)} is true exactly when the lower case {@code word} is one of them.
+     */
+    public static List<String> toLowerCaseWords(String sentence) {
+        requireNonNull(sentence);
+        return Arrays.stream(sentence.split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .map(word -> word.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,152 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Writes a table to a {@code Writer} one row at a time, so that a table of any size can be written without holding
+ * all of it in memory.
+ */
+public abstract class TableWriter {
+
+    protected final Writer writer;
+    protected final List<String> columns;
+
+    private TableWriter(Writer writer, List<String> columns) {
+        requireNonNull(writer);
+        requireNonNull(columns);
+        this.writer = writer;
+        this.columns = new ArrayList<>(columns);
+    }
+
+    /**
+     * Writes a row with a value for each column, in the order of the columns.
+     * Numbers are written as numbers where the format tells them apart from text.
+     */
+    public void writeRow(List<?> values) throws IOException {
+        requireNonNull(values);
+        checkArgument(values.size() == columns.size(), "A row must have a value for each column.");
+        writeValues(values);
+    }
+
+    protected abstract void writeValues(List<?> values) throws IOException;
+
+    /**
+     * Writes out any rows held in a buffer. The underlying {@code Writer} is flushed but not closed.
+     */
+    public abstract void flush() throws IOException;
+
+    /**
+     * The formats that a table can be written in.
+     */
+    public enum Format {
+        /** Comma-separated values, with a first line naming the columns. */
+        CSV(".csv"),
+        /** Newline-delimited JSON, with a JSON object for each row. */
+        NDJSON(".ndjson", ".jsonl");
+
+        private final List<String> fileExtensions;
+
+        Format(String... fileExtensions) {
+            this.fileExtensions = List.of(fileExtensions);
+        }
+
+        /**
+         * Returns the format that files named like {@code filePath} are in, judging by their extension.
+         */
+        public static Optional<Format> fromFilePath(Path filePath) {
+            requireNonNull(filePath);
+            String fileName = String.valueOf(filePath.getFileName()).toLowerCase(Locale.ROOT);
+            return Stream.of(values())
+                    .filter(format -> format.fileExtensions.stream().anyMatch(fileName::endsWith))
+                    .findFirst();
+        }
+
+        /**
+         * Returns a {@code TableWriter} that writes a table of {@code columns} to {@code writer} in this format.
+         */
+        public TableWriter createWriter(Writer writer, List<String> columns) throws IOException {
+            switch (this) {
+            case CSV:
+                return new CsvTableWriter(writer, columns);
+            case NDJSON:
+            default:
+                return new NdjsonTableWriter(writer, columns);
+            }
+        }
+    }
+
+    /**
+     * Writes a table as comma-separated values. Values that contain commas, double quotes or line breaks are
+     * enclosed in double quotes, as {@link CsvReader} expects.
+     */
+    private static class CsvTableWriter extends TableWriter {
+
+        CsvTableWriter(Writer writer, List<String> columns) throws IOException {
+            super(writer, columns);
+            writeValues(columns);
+        }
+
+        @Override
+        protected void writeValues(List<?> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(String.valueOf(values.get(i))));
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private static String escape(String value) {
+            if (value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    /**
+     * Writes a table as newline-delimited JSON, with an object for each row whose fields are named after the
+     * columns.
+     */
+    private static class NdjsonTableWriter extends TableWriter {
+        private final JsonGenerator generator;
+
+        NdjsonTableWriter(Writer writer, List<String> columns) throws IOException {
+            super(writer, columns);
+            generator = JsonUtil.createGenerator(writer);
+        }
+
+        @Override
+        protected void writeValues(List<?> values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.size(); i++) {
+                generator.writeObjectField(columns.get(i), values.get(i));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Filters the persons of a model by name as the user types.
+ * A query matches the persons whose names have, for each word of the query, a word starting with it.
+ * <p>
+ * A query of a single word, the most common case, is answered directly by the model's index of name words.
+ * A query of several words is usually the previous query with one more character typed, and then it can only match
+ * some of the persons that the previous query matched, so only those are checked again. Otherwise, the persons whose
+ * names have a word starting with the longest word of the query are found through the index and checked. The words
+ * of the names checked are kept across queries, so refining a query does not split the same names again.
+ */
+class IncrementalNameSearch {
+
+    private final Model model;
+
+    private List<String> previousQueryWords = List.of();
+    /** Persons matched by the previous query, or null if they are unknown or out of date. */
+    private List<Person> previousMatches;
+    private long previousAddressBookVersion;
+    /** Lower-case words of the names of the persons checked since the last search that did not refine its matches. */
+    private final Map<Name, List<String>> nameWordsByName = new HashMap<>();
+
+    IncrementalNameSearch(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Updates the filtered person list of the model to show only the persons matched by {@code query}.
+     * A blank query shows all persons.
+     */
+    void search(String query) {
+        requireNonNull(query);
+        List<String> queryWords = StringUtil.toLowerCaseWords(query);
+        if (queryWords.isEmpty()) {
+            previousMatches = null;
+            nameWordsByName.clear();
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return;
+        }
+
+        List<Person> matches;
+        if (queryWords.size() == 1) {
+            matches = model.findPersonsByNamePrefix(queryWords.get(0));
+        } else {
+            List<Person> candidates;
+            if (canRefinePreviousMatches(queryWords)) {
+                candidates = previousMatches;
+            } else {
+                nameWordsByName.clear();
+                String longestQueryWord = Collections.max(queryWords, Comparator.comparingInt(String::length));
+                candidates = model.findPersonsByNamePrefix(longestQueryWord);
+            }
+            matches = candidates.stream()
+                    .filter(person -> isMatch(person, queryWords))
+                    .collect(Collectors.toList());
+        }
+
+        previousQueryWords = queryWords;
+        previousMatches = matches;
+        previousAddressBookVersion = model.getAddressBookVersion();
+
+        Set<Name> matchingNames = matches.stream().map(Person::getName).collect(Collectors.toSet());
+        model.updateFilteredPersonList(person -> matchingNames.contains(person.getName()));
+    }
+
+    /**
+     * Returns true if every person matched by {@code queryWords} was matched by the previous query, which is the case
+     * if each word of the previous query is the start of the word of {@code queryWords} in the same position.
+     */
+    private boolean canRefinePreviousMatches(List<String> queryWords) {
+        if (previousMatches == null || previousAddressBookVersion != model.getAddressBookVersion()
+                || queryWords.size() < previousQueryWords.size()) {
+            return false;
+        }
+        for (int i = 0; i < previousQueryWords.size(); i++) {
+            if (!queryWords.get(i).startsWith(previousQueryWords.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isMatch(Person person, List<String> queryWords) {
+        List<String> nameWords = nameWordsByName.computeIfAbsent(person.getName(),
+                name -> StringUtil.toLowerCaseWords(name.fullName));
+        return queryWords.stream()
+                .allMatch(queryWord -> nameWords.stream().anyMatch(nameWord -> nameWord.startsWith(queryWord)));
+    }
+}
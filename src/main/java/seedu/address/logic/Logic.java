@@ -24,6 +24,26 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Saves the address book if it has changes that {@link #execute(String)} has not saved yet.
+     * @throws CommandException If an error occurs while saving.
+     */
+    void saveAddressBook() throws CommandException;
+
+    /**
+     * Saves the address book like {@link #saveAddressBook()}, then waits until every save has been written to the
+     * data file.
+     * @throws CommandException If the address book could not be written.
+     */
+    void flushAddressBook() throws CommandException;
+
+    /**
+     * Filters the list of persons to those whose names have, for each word of {@code query}, a word starting with it,
+     * ignoring case. A blank query shows all persons.
+     * Meant to be called as the user types, so each call builds on the results of the previous one where it can.
+     */
+    void searchPersonsByName(String query);
+
     /**
      * Returns the AddressBook.
      *
@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
@@ -33,14 +35,40 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final IncrementalNameSearch nameSearch;
+
+    /** Number of commands that change the address book to execute before saving it. */
+    private final int commandsPerSave;
+
+    /**
+     * Version of the model's address book as of the last save that the storage accepted. The storage keeps an address
+     * book that fails to be written queued until it is written, and reports the failure by a later save or flush.
+     */
+    private long savedAddressBookVersion;
+    /** Number of commands that changed the address book since the last successful save. */
+    private int unsavedCommandCount;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address
+     * book after every command that changes it.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, 1);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address
+     * book once every {@code commandsPerSave} commands that change it. Changes not saved yet are saved by
+     * {@link #saveAddressBook()}.
+     */
+    public LogicManager(Model model, Storage storage, int commandsPerSave) {
+        checkArgument(commandsPerSave > 0, "Commands per save must be positive.");
         this.model = model;
         this.storage = storage;
+        this.commandsPerSave = commandsPerSave;
         addressBookParser = new AddressBookParser();
+        nameSearch = new IncrementalNameSearch(model);
+        savedAddressBookVersion = model.getAddressBookVersion();
     }
 
     @Override
@@ -49,17 +77,60 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        long previousAddressBookVersion = model.getAddressBookVersion();
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            model.commitAddressBook();
+        }
+
+        if (model.getAddressBookVersion() == previousAddressBookVersion) {
+            return commandResult;
+        }
+
+        unsavedCommandCount++;
+        if (unsavedCommandCount >= commandsPerSave) {
+            saveAddressBook();
+        }
+        return commandResult;
+    }
+
+    @Override
+    public void saveAddressBook() throws CommandException {
+        long addressBookVersion = model.getAddressBookVersion();
+        if (addressBookVersion == savedAddressBookVersion) {
+            return;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            savedAddressBookVersion = addressBookVersion;
+            unsavedCommandCount = 0;
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public void flushAddressBook() throws CommandException {
+        saveAddressBook();
+        try {
+            storage.flushAddressBook();
+        } catch (IOException ioe) {
+            throw toCommandException(ioe);
+        }
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    }
+
+    @Override
+    public void searchPersonsByName(String query) {
+        nameSearch.search(query);
     }
 
     @Override
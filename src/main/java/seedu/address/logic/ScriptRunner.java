@@ -0,0 +1,87 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes the commands of a script, one per line, without a user interface.
+ * Blank lines and lines starting with {@link #COMMENT_PREFIX} are skipped. The script stops at an exit command.
+ * <p>
+ * A command that fails is reported with its line number and the script carries on with the next line, so that one
+ * bad row of a long roster does not undo the work of the rest.
+ */
+public class ScriptRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_LINE_FAILED = "Line %d: %s";
+    public static final String MESSAGE_SUMMARY = "Executed %d commands, of which %d failed.";
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final Logic logic;
+
+    /**
+     * Creates a {@code ScriptRunner} that executes commands with {@code logic}.
+     */
+    public ScriptRunner(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Executes the commands read from {@code script}, printing the feedback of each to {@code out} and the error of
+     * each failed command to {@code err}, then saves the changes not saved yet and waits until they are written to
+     * the data file.
+     *
+     * @return the number of commands that failed, counting a failure to save as one.
+     * @throws IOException if the script cannot be read.
+     */
+    public int run(BufferedReader script, PrintStream out, PrintStream err) throws IOException {
+        requireNonNull(script);
+        requireNonNull(out);
+        requireNonNull(err);
+
+        int commandCount = 0;
+        int failureCount = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            commandCount++;
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failureCount++;
+                err.println(String.format(MESSAGE_LINE_FAILED, lineNumber, e.getMessage()));
+            }
+        }
+
+        try {
+            logic.flushAddressBook();
+        } catch (CommandException e) {
+            failureCount++;
+            err.println(e.getMessage());
+        }
+
+        logger.info(String.format(MESSAGE_SUMMARY, commandCount, failureCount));
+        return failureCount;
+    }
+}
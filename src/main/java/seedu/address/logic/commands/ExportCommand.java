@@ -0,0 +1,226 @@
+package seedu.address.logic.commands;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CCA_NAME;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.TableWriter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.StudentCsvParser;
+import seedu.address.model.Model;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaInformation;
+import seedu.address.model.cca.CcaName;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes the students in the displayed student list, or the attendance of the members of CCAs, to a file.
+ * The format of the file is chosen by its extension. Rows are written to the file as they are produced, so exporting
+ * the whole address book takes no more memory than exporting a single student.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes the displayed students, or the attendance "
+            + "of the members of CCAs, to a .csv, .ndjson or .jsonl file.\n"
+            + "Parameters: " + Report.STUDENTS.getKeyword() + " FILE_PATH\n"
+            + "or: " + Report.ATTENDANCE.getKeyword() + " FILE_PATH [" + PREFIX_CCA_NAME + "CCA_NAME]...\n"
+            + "Example: " + COMMAND_WORD + " " + Report.ATTENDANCE.getKeyword() + " reports/week1.csv "
+            + PREFIX_CCA_NAME + "Basketball";
+
+    public static final String MESSAGE_STUDENTS_SUCCESS = "Exported %1$d students to %2$s";
+    public static final String MESSAGE_ATTENDANCE_SUCCESS = "Exported the attendance of %1$d members of %2$d CCAs "
+            + "to %3$s";
+    public static final String MESSAGE_CANNOT_WRITE_FILE = "Could not write %1$s: %2$s";
+
+    public static final String COLUMN_CCA = "cca";
+    public static final String COLUMN_ROLE = "role";
+    public static final String COLUMN_ATTENDED = "attended";
+    public static final String COLUMN_TOTAL = "total";
+
+    /** Columns of the students report, which can be imported again. */
+    public static final List<String> STUDENT_COLUMNS = List.of(StudentCsvParser.COLUMN_NAME,
+            StudentCsvParser.COLUMN_PHONE, StudentCsvParser.COLUMN_EMAIL, StudentCsvParser.COLUMN_ADDRESS,
+            StudentCsvParser.COLUMN_CCAS);
+    /** Columns of the attendance report, which has a row for each member of each CCA. */
+    public static final List<String> ATTENDANCE_COLUMNS = List.of(COLUMN_CCA, StudentCsvParser.COLUMN_NAME,
+            COLUMN_ROLE, COLUMN_ATTENDED, COLUMN_TOTAL);
+
+    /**
+     * The reports that can be exported.
+     */
+    public enum Report {
+        STUDENTS("students"),
+        ATTENDANCE("attendance");
+
+        private final String keyword;
+
+        Report(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+    }
+
+    private final Report report;
+    private final Path filePath;
+    private final TableWriter.Format format;
+    /** CCAs whose attendance is exported, or empty for all CCAs. */
+    private final List<CcaName> ccaNames;
+
+    /**
+     * Creates an ExportCommand to write the displayed students to {@code filePath} in {@code format}.
+     */
+    public ExportCommand(Path filePath, TableWriter.Format format) {
+        this(Report.STUDENTS, filePath, format, List.of());
+    }
+
+    /**
+     * Creates an ExportCommand to write the attendance of the members of {@code ccaNames}, or of all CCAs if it is
+     * empty, to {@code filePath} in {@code format}.
+     */
+    public ExportCommand(Path filePath, TableWriter.Format format, List<CcaName> ccaNames) {
+        this(Report.ATTENDANCE, filePath, format, ccaNames);
+    }
+
+    private ExportCommand(Report report, Path filePath, TableWriter.Format format, List<CcaName> ccaNames) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(ccaNames);
+        this.report = report;
+        this.filePath = filePath;
+        this.format = format;
+        this.ccaNames = new ArrayList<>(ccaNames);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (report == Report.STUDENTS) {
+            List<Person> students = model.getFilteredPersonList();
+            write(STUDENT_COLUMNS, tableWriter -> {
+                for (Person student : students) {
+                    tableWriter.writeRow(toStudentRow(student));
+                }
+            });
+            return new CommandResult(String.format(MESSAGE_STUDENTS_SUCCESS, students.size(), filePath));
+        }
+
+        List<Cca> ccas = getCcas(model);
+        int[] memberCount = new int[1];
+        write(ATTENDANCE_COLUMNS, tableWriter -> {
+            for (Cca cca : ccas) {
+                for (Person member : model.getCcaMembers(cca.getCcaName())) {
+                    tableWriter.writeRow(toAttendanceRow(member, member.getCcaInformation(cca)));
+                    memberCount[0]++;
+                }
+            }
+        });
+        return new CommandResult(String.format(MESSAGE_ATTENDANCE_SUCCESS, memberCount[0], ccas.size(), filePath));
+    }
+
+    private List<Cca> getCcas(Model model) throws CommandException {
+        if (ccaNames.isEmpty()) {
+            return new ArrayList<>(model.getCcaList());
+        }
+        List<Cca> ccas = new ArrayList<>();
+        for (CcaName ccaName : ccaNames) {
+            if (!model.hasCca(ccaName)) {
+                throw new CommandException(Messages.MESSAGE_CCA_NOT_FOUND);
+            }
+            ccas.add(model.getCca(ccaName));
+        }
+        return ccas;
+    }
+
+    /**
+     * Writes a table of {@code columns}, whose rows are written by {@code rowsWriter}, to the file.
+     */
+    private void write(List<String> columns, RowsWriter rowsWriter) throws CommandException {
+        try {
+            FileUtil.writeToFile(filePath, out -> {
+                Writer writer = new OutputStreamWriter(out, UTF_8);
+                TableWriter tableWriter = format.createWriter(writer, columns);
+                rowsWriter.writeRows(tableWriter);
+                tableWriter.flush();
+            });
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_WRITE_FILE, filePath, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Returns the values of the students report for {@code student}, which lists their CCAs and roles the way
+     * {@link ImportCommand} reads them.
+     */
+    private static List<Object> toStudentRow(Person student) {
+        String ccas = student.getCcaInformations().stream()
+                .sorted(Comparator.comparing(ccaInformation -> ccaInformation.getCcaName().fullCcaName))
+                .map(ccaInformation -> ccaInformation.isDefaultRole()
+                        ? Messages.format(ccaInformation.getCcaName())
+                        : Messages.format(ccaInformation.getCcaName()) + StudentCsvParser.ROLE_SEPARATOR
+                                + Messages.format(ccaInformation.getRole()))
+                .collect(Collectors.joining(StudentCsvParser.CCA_SEPARATOR));
+        return List.of(student.getName().fullName, student.getPhone().value, student.getEmail().value,
+                student.getAddress().value, ccas);
+    }
+
+    private static List<Object> toAttendanceRow(Person member, CcaInformation ccaInformation) {
+        return List.of(Messages.format(ccaInformation.getCcaName()), member.getName().fullName,
+                Messages.format(ccaInformation.getRole()),
+                ccaInformation.getAttendance().getSessionsAttended().getSessionCount(),
+                ccaInformation.getAttendance().getTotalSessions().getSessionCount());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return report == otherExportCommand.report
+                && filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format
+                && ccaNames.equals(otherExportCommand.ccaNames);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("report", report)
+                .add("filePath", filePath)
+                .add("format", format)
+                .add("ccaNames", ccaNames)
+                .toString();
+    }
+
+    /**
+     * Writes the rows of a report.
+     */
+    @FunctionalInterface
+    private interface RowsWriter {
+        void writeRows(TableWriter tableWriter) throws IOException;
+    }
+}
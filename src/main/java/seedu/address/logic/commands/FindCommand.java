@@ -2,34 +2,49 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
 
 /**
- * Finds and lists all students in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all students in address book whose name contains any of the argument keywords, or who match a
+ * structured query on their details. Keyword matching is case insensitive.
+ * Matching students are looked up through the model's indexes where possible, rather than by testing every student.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "the specified keywords (case-insensitive), or who match all the conditions of any group of conditions "
+            + "joined by AND, and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "or: CONDITION [AND|OR CONDITION]...\n"
+            + "Conditions: n/NAME_WORD, c/CCA_NAME, r/ROLE, p/PHONE_PREFIX, e/EMAIL_PREFIX, a/ADDRESS_PART, "
+            + "att/[CCA_NAME]<|<=|>|>=|=PERCENTAGE\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " c/Basketball AND att/Basketball<50 OR r/Captain";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final PersonQuery predicate;
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    public FindCommand(PersonQuery predicate) {
         this.predicate = predicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Set<Name> matchingNames = predicate.findMatches(model).stream()
+                .map(Person::getName)
+                .collect(Collectors.toSet());
+        // Names are matched rather than persons, so students stay listed when their other details change.
+        model.updateFilteredPersonList(person -> matchingNames.contains(person.getName()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
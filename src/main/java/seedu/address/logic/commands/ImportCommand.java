@@ -0,0 +1,150 @@
+package seedu.address.logic.commands;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.StudentCsvParser;
+import seedu.address.logic.parser.StudentCsvParser.ParsedStudents;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaName;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Adds the students in a CSV file to the address book.
+ * Every row of the file is checked before any student is added, so either all of them are added or none, and they
+ * are added as a single change so that the student list is updated and saved only once.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the students in a CSV file to the student "
+            + "list. The first line of the file names its columns: "
+            + String.join(", ", StudentCsvParser.COLUMN_NAME, StudentCsvParser.COLUMN_PHONE,
+                    StudentCsvParser.COLUMN_EMAIL, StudentCsvParser.COLUMN_ADDRESS)
+            + " and optionally " + StudentCsvParser.COLUMN_CCAS + ", e.g. Basketball:Captain;Chess\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/roster.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d students from %2$s";
+    public static final String MESSAGE_INVALID_ROWS = "No students were imported, as %1$d rows of %2$s are invalid:";
+    public static final String MESSAGE_ROW_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "...and %1$d more";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read %1$s: %2$s";
+
+    /** Maximum number of invalid rows listed in the error message. */
+    public static final int MAX_ROW_ERRORS_SHOWN = 10;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the students in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Map<CcaName, Cca> ccas = model.getCcaList().stream()
+                .collect(Collectors.toMap(Cca::getCcaName, cca -> cca));
+        ParsedStudents parsedStudents;
+        try (Reader reader = Files.newBufferedReader(filePath, UTF_8)) {
+            parsedStudents = new StudentCsvParser(ccas).parse(reader);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath, e.getMessage()), e);
+        } catch (ParseException pe) {
+            throw new CommandException(pe.getMessage(), pe);
+        }
+
+        SortedMap<Integer, String> errorsByLineNumber = new TreeMap<>(parsedStudents.getErrorsByLineNumber());
+        errorsByLineNumber.putAll(findDuplicateStudents(model, parsedStudents.getStudentsByLineNumber()));
+        if (!errorsByLineNumber.isEmpty()) {
+            throw new CommandException(formatRowErrors(errorsByLineNumber));
+        }
+
+        List<Person> students = new ArrayList<>(parsedStudents.getStudentsByLineNumber().values());
+        model.addPersons(students);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, students.size(), filePath));
+    }
+
+    /**
+     * Returns an error for each student who is the same as a student in the address book or earlier in the file,
+     * by the line number of their row.
+     */
+    private static Map<Integer, String> findDuplicateStudents(Model model, Map<Integer, Person> studentsByLineNumber) {
+        Set<Name> names = new HashSet<>();
+        Set<Phone> phones = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        Map<Integer, String> errorsByLineNumber = new TreeMap<>();
+        studentsByLineNumber.forEach((lineNumber, student) -> {
+            boolean isNewName = names.add(student.getName());
+            boolean isNewPhone = phones.add(student.getPhone());
+            boolean isNewEmail = emails.add(student.getEmail());
+            if (!(isNewName && isNewPhone && isNewEmail) || model.hasPerson(student)) {
+                errorsByLineNumber.put(lineNumber, Messages.MESSAGE_DUPLICATE_PERSON);
+            }
+        });
+        return errorsByLineNumber;
+    }
+
+    private String formatRowErrors(SortedMap<Integer, String> errorsByLineNumber) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_INVALID_ROWS, errorsByLineNumber.size(),
+                filePath));
+        errorsByLineNumber.entrySet().stream()
+                .limit(MAX_ROW_ERRORS_SHOWN)
+                .forEach(error -> message.append('\n')
+                        .append(String.format(MESSAGE_ROW_ERROR, error.getKey(), error.getValue())));
+        if (errorsByLineNumber.size() > MAX_ROW_ERRORS_SHOWN) {
+            message.append('\n').append(String.format(MESSAGE_MORE_ERRORS,
+                    errorsByLineNumber.size() - MAX_ROW_ERRORS_SHOWN));
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
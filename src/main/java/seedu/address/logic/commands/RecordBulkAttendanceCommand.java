@@ -0,0 +1,149 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CCA_NAME;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.cca.Amount;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaName;
+import seedu.address.model.person.Person;
+
+/**
+ * Records the attendance of several students in a CCA at once, e.g. for everyone present at a session.
+ * The attendance of every student is checked before any of it is recorded, so either all of it is recorded or none,
+ * and it is recorded in one transaction so that the student list is updated only once.
+ */
+public class RecordBulkAttendanceCommand extends Command {
+    public static final String COMMAND_WORD = "bulkattend";
+    public static final String ALL_MEMBERS = "all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Records the attendance of several students in a CCA. "
+            + "Parameters: "
+            + "STUDENT_INDEXES (positive integers or ranges such as 2-5, separated by commas; "
+            + "or \"" + ALL_MEMBERS + "\" for every student in the CCA) "
+            + PREFIX_CCA_NAME + "CCA_NAME "
+            + PREFIX_AMOUNT + "AMOUNT\n"
+            + "Example: " + COMMAND_WORD + " 1,3,5-7 " + PREFIX_CCA_NAME + "Basketball " + PREFIX_AMOUNT + "1";
+
+    public static final String MESSAGE_SUCCESS = "Recorded attendance for %1$d students in %2$s for %3$s sessions.";
+    public static final String MESSAGE_NO_MEMBERS = "There are no students in %1$s.";
+    public static final String MESSAGE_STUDENT_NOT_IN_CCA = "%1$s is not in %2$s.";
+    public static final String MESSAGE_EXCEEDING_AMOUNT = "The amount of attendance recorded for %1$s exceeds the "
+            + "total number of sessions in the CCA.";
+
+    /** Indexes of the students in the displayed list, or empty for all members of the CCA. */
+    private final Optional<List<Index>> studentIndexes;
+    private final CcaName ccaName;
+    private final Amount amount;
+
+    /**
+     * Creates a RecordBulkAttendanceCommand to record attendance for the students at {@code studentIndexes}.
+     */
+    public RecordBulkAttendanceCommand(List<Index> studentIndexes, CcaName ccaName, Amount amount) {
+        this(Optional.of(new ArrayList<>(requireNonNull(studentIndexes))), ccaName, amount);
+    }
+
+    /**
+     * Creates a RecordBulkAttendanceCommand to record attendance for every member of the CCA.
+     */
+    public RecordBulkAttendanceCommand(CcaName ccaName, Amount amount) {
+        this(Optional.empty(), ccaName, amount);
+    }
+
+    private RecordBulkAttendanceCommand(Optional<List<Index>> studentIndexes, CcaName ccaName, Amount amount) {
+        requireNonNull(ccaName);
+        requireNonNull(amount);
+        this.studentIndexes = studentIndexes;
+        this.ccaName = ccaName;
+        this.amount = amount;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.hasCca(ccaName)) {
+            throw new CommandException(Messages.MESSAGE_CCA_NOT_FOUND);
+        }
+        Cca cca = model.getCca(ccaName);
+
+        List<Person> students = getStudents(model);
+        for (Person student : students) {
+            if (!student.hasCca(ccaName)) {
+                throw new CommandException(String.format(MESSAGE_STUDENT_NOT_IN_CCA,
+                        Messages.format(student.getName()), Messages.format(ccaName)));
+            } else if (!student.canAttend(cca, amount)) {
+                throw new CommandException(String.format(MESSAGE_EXCEEDING_AMOUNT,
+                        Messages.format(student.getName())));
+            }
+        }
+
+        model.beginTransaction();
+        try {
+            for (Person student : students) {
+                model.setPerson(student, student.attend(cca, amount));
+            }
+        } catch (RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
+        }
+        model.commitTransaction();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, students.size(),
+                Messages.format(ccaName), Messages.format(amount)));
+    }
+
+    private List<Person> getStudents(Model model) throws CommandException {
+        if (studentIndexes.isEmpty()) {
+            List<Person> members = model.getCcaMembers(ccaName);
+            if (members.isEmpty()) {
+                throw new CommandException(String.format(MESSAGE_NO_MEMBERS, Messages.format(ccaName)));
+            }
+            return members;
+        }
+
+        List<Person> lastShownList = model.getFilteredPersonList();
+        List<Person> students = new ArrayList<>();
+        for (Index studentIndex : studentIndexes.get()) {
+            if (studentIndex.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            students.add(lastShownList.get(studentIndex.getZeroBased()));
+        }
+        return students;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof RecordBulkAttendanceCommand)) {
+            return false;
+        }
+
+        RecordBulkAttendanceCommand otherCommand = (RecordBulkAttendanceCommand) other;
+        return studentIndexes.equals(otherCommand.studentIndexes)
+                && ccaName.equals(otherCommand.ccaName)
+                && amount.equals(otherCommand.amount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentIndexes", studentIndexes.map(List::toString).orElse(ALL_MEMBERS))
+                .add("ccaName", ccaName)
+                .add("amount", amount)
+                .toString();
+    }
+}
@@ -1,11 +1,14 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCcaToStudentCommand;
@@ -19,12 +22,17 @@ import seedu.address.logic.commands.DeleteStudentCommand;
 import seedu.address.logic.commands.EditCcaCommand;
 import seedu.address.logic.commands.EditStudentCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RecordAttendanceCommand;
+import seedu.address.logic.commands.RecordBulkAttendanceCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemoveCcaFromStudentCommand;
 import seedu.address.logic.commands.RemoveRoleFromStudentCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -32,11 +40,54 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    /** Parsers keyed by the command words they parse. Parsers are stateless, so each is shared by all inputs. */
+    private final Map<String, Parser<?>> parsers = new ConcurrentHashMap<>();
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates an AddressBookParser that recognises all the built-in commands.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public AddressBookParser() {
+        register(CreateStudentCommand.COMMAND_WORD, new CreateStudentCommandParser());
+        register(CreateCcaCommand.COMMAND_WORD, new CreateCcaCommandParser());
+        register(EditStudentCommand.COMMAND_WORD, new EditStudentCommandParser());
+        register(DeleteStudentCommand.COMMAND_WORD, new DeleteStudentCommandParser());
+        register(EditCcaCommand.COMMAND_WORD, new EditCcaCommandParser());
+        register(DeleteCcaCommand.COMMAND_WORD, new DeleteCcaCommandParser());
+        register(RecordAttendanceCommand.COMMAND_WORD, new RecordAttendanceCommandParser());
+        register(RecordBulkAttendanceCommand.COMMAND_WORD, new RecordBulkAttendanceCommandParser());
+        register(AddCcaToStudentCommand.COMMAND_WORD, new AddCcaToStudentCommandParser());
+        register(RemoveCcaFromStudentCommand.COMMAND_WORD, new RemoveCcaFromStudentCommandParser());
+        register(AddRoleToStudentCommand.COMMAND_WORD, new AddRoleToStudentCommandParser());
+        register(RemoveRoleFromStudentCommand.COMMAND_WORD, new RemoveRoleFromStudentCommandParser());
+        register(ImportCommand.COMMAND_WORD, new ImportCommandParser());
+        register(ExportCommand.COMMAND_WORD, new ExportCommandParser());
+        register(FindCommand.COMMAND_WORD, new FindCommandParser());
+
+        // Commands without arguments ignore any that are given
+        register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        register(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        register(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+        register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+    }
+
+    /**
+     * Makes {@code parser} parse the arguments of inputs that start with {@code commandWord}.
+     * {@code parser} may be used by several threads at once, so it should not keep state between inputs.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is blank, contains whitespace or is already registered
+     */
+    public void register(String commandWord, Parser<?> parser) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        checkArgument(!commandWord.isEmpty() && findWhitespace(commandWord) == -1,
+                "A command word must be a single word.");
+        checkArgument(parsers.putIfAbsent(commandWord, parser) == null,
+                "The command word " + commandWord + " is already registered.");
+    }
 
     /**
      * Parses user input into command for execution.
@@ -46,73 +97,44 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        // The command word runs up to the first whitespace, and the arguments keep their leading whitespace
+        int commandWordEnd = findWhitespace(trimmedInput);
+        if (commandWordEnd == -1) {
+            commandWordEnd = trimmedInput.length();
+        }
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-        switch (commandWord) {
-
-        case CreateStudentCommand.COMMAND_WORD:
-            return new CreateStudentCommandParser().parse(arguments);
-
-        case CreateCcaCommand.COMMAND_WORD:
-            return new CreateCcaCommandParser().parse(arguments);
-
-        case EditStudentCommand.COMMAND_WORD:
-            return new EditStudentCommandParser().parse(arguments);
-
-        case DeleteStudentCommand.COMMAND_WORD:
-            return new DeleteStudentCommandParser().parse(arguments);
-
-        case EditCcaCommand.COMMAND_WORD:
-            return new EditCcaCommandParser().parse(arguments);
-
-        case DeleteCcaCommand.COMMAND_WORD:
-            return new DeleteCcaCommandParser().parse(arguments);
-
-        case RecordAttendanceCommand.COMMAND_WORD:
-            return new RecordAttendanceCommandParser().parse(arguments);
-
-        case AddCcaToStudentCommand.COMMAND_WORD: // New case
-            return new AddCcaToStudentCommandParser().parse(arguments);
-
-        case RemoveCcaFromStudentCommand.COMMAND_WORD: // New case
-            return new RemoveCcaFromStudentCommandParser().parse(arguments);
-
-        case AddRoleToStudentCommand.COMMAND_WORD:
-            return new AddRoleToStudentCommandParser().parse(arguments);
-
-        case RemoveRoleFromStudentCommand.COMMAND_WORD:
-            return new RemoveRoleFromStudentCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+        }
 
-        default:
+        Parser<?> parser = parsers.get(commandWord);
+        if (parser == null) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(arguments);
+    }
+
+    /**
+     * Returns the index of the first whitespace in {@code text}, or -1 if there is none.
+     */
+    private static int findWhitespace(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
     }
 
 }
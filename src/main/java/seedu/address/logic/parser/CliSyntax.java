@@ -14,4 +14,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_CCA_NAME = new Prefix("c/");
     public static final Prefix PREFIX_AMOUNT = new Prefix("a/");
     public static final Prefix PREFIX_TOTAL_SESSIONS = new Prefix("t/");
+    public static final Prefix PREFIX_ATTENDANCE = new Prefix("att/");
 }
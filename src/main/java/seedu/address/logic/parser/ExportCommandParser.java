@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CCA_NAME;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.TableWriter;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Report;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.cca.CcaName;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_UNSUPPORTED_FILE_TYPE = "The file to export to must end with .csv, .ndjson "
+            + "or .jsonl";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CCA_NAME);
+        String[] preamble = argMultimap.getPreamble().split("\\s+", 2);
+        if (preamble.length < 2 || !FileUtil.isValidPath(preamble[1])) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        String reportKeyword = preamble[0];
+        Path filePath = Paths.get(preamble[1]);
+        TableWriter.Format format = TableWriter.Format.fromFilePath(filePath)
+                .orElseThrow(() -> new ParseException(MESSAGE_UNSUPPORTED_FILE_TYPE));
+
+        if (reportKeyword.equals(Report.STUDENTS.getKeyword())
+                && argMultimap.getAllValues(PREFIX_CCA_NAME).isEmpty()) {
+            return new ExportCommand(filePath, format);
+        } else if (!reportKeyword.equals(Report.ATTENDANCE.getKeyword())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        List<CcaName> ccaNames = new ArrayList<>();
+        for (String ccaName : argMultimap.getAllValues(PREFIX_CCA_NAME)) {
+            ccaNames.add(ParserUtil.parseCcaName(ccaName));
+        }
+        return new ExportCommand(filePath, format, ccaNames);
+    }
+
+}
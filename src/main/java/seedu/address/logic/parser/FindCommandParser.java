@@ -1,18 +1,60 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CCA_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.cca.CcaName;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.query.AddressContainsTerm;
+import seedu.address.model.person.query.AttendanceRateTerm;
+import seedu.address.model.person.query.AttendanceRateTerm.Comparison;
+import seedu.address.model.person.query.CcaMemberTerm;
+import seedu.address.model.person.query.EmailPrefixTerm;
+import seedu.address.model.person.query.NameWordTerm;
+import seedu.address.model.person.query.PhonePrefixTerm;
+import seedu.address.model.person.query.QueryTerm;
+import seedu.address.model.person.query.RoleTerm;
+import seedu.address.model.person.query.StructuredQuery;
 
 /**
  * Parses input arguments and creates a new FindCommand object.
+ * Arguments starting with a condition, such as {@code c/Basketball}, are parsed as a {@code StructuredQuery}, in
+ * which {@code AND} binds more tightly than {@code OR}. Other arguments are parsed as name keywords.
+ * {@code AND} and {@code OR} are only read as operators when they stand between two conditions, i.e. when the next
+ * word starts another condition, so that values such as {@code c/Arts AND Crafts} are kept whole.
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MESSAGE_INVALID_NAME_WORD = "n/ takes a single word of a name, made of letters only.";
+    public static final String MESSAGE_INVALID_PHONE_PREFIX = "p/ takes the first digits of a phone number.";
+    public static final String MESSAGE_INVALID_EMAIL_PREFIX = "e/ takes the start of an email, without spaces.";
+    public static final String MESSAGE_INVALID_ADDRESS_PART = "a/ takes part of an address, which cannot be blank.";
+    public static final String MESSAGE_INVALID_ATTENDANCE = "att/ takes an optional CCA name, then one of "
+            + "<, <=, >, >= or =, then a percentage, e.g. att/Basketball<50";
+
+    private static final List<Prefix> CONDITION_PREFIXES = Arrays.asList(PREFIX_NAME, PREFIX_CCA_NAME, PREFIX_ROLE,
+            PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_ATTENDANCE);
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+    private static final Pattern WORD_FORMAT = Pattern.compile("\\S+");
+    private static final Pattern ATTENDANCE_FORMAT =
+            Pattern.compile("(?<ccaName>[^<>=]*)(?<comparison><=|>=|<|>|=)\\s*(?<percentage>\\d{1,3})%?");
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -25,9 +67,107 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (findConditionPrefix(trimmedArgs).isPresent()) {
+            return new FindCommand(parseStructuredQuery(trimmedArgs));
+        }
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
 
+    private static Optional<Prefix> findConditionPrefix(String condition) {
+        return CONDITION_PREFIXES.stream().filter(prefix -> condition.startsWith(prefix.getPrefix())).findFirst();
+    }
+
+    /**
+     * Parses {@code query}, which starts with a condition, into a {@code StructuredQuery}.
+     * The query is split into words, and a condition runs from its prefix up to the next operator that is followed by
+     * a word starting with another condition, or up to the end of the query.
+     */
+    private static StructuredQuery parseStructuredQuery(String query) throws ParseException {
+        List<Integer> wordStarts = new ArrayList<>();
+        List<Integer> wordEnds = new ArrayList<>();
+        Matcher wordMatcher = WORD_FORMAT.matcher(query);
+        while (wordMatcher.find()) {
+            wordStarts.add(wordMatcher.start());
+            wordEnds.add(wordMatcher.end());
+        }
+
+        List<List<QueryTerm>> groups = new ArrayList<>();
+        List<QueryTerm> terms = new ArrayList<>();
+        int conditionStart = 0;
+        for (int i = 1; i < wordStarts.size() - 1; i++) {
+            String word = query.substring(wordStarts.get(i), wordEnds.get(i));
+            boolean isOperator = word.equals(OPERATOR_AND) || word.equals(OPERATOR_OR);
+            if (!isOperator || findConditionPrefix(query.substring(wordStarts.get(i + 1))).isEmpty()) {
+                continue;
+            }
+
+            terms.add(parseCondition(query.substring(conditionStart, wordEnds.get(i - 1))));
+            if (word.equals(OPERATOR_OR)) {
+                groups.add(terms);
+                terms = new ArrayList<>();
+            }
+            conditionStart = wordStarts.get(i + 1);
+            i++;
+        }
+        terms.add(parseCondition(query.substring(conditionStart)));
+        groups.add(terms);
+        return new StructuredQuery(groups);
+    }
+
+    private static QueryTerm parseCondition(String condition) throws ParseException {
+        Optional<Prefix> prefix = findConditionPrefix(condition);
+        if (prefix.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        String value = condition.substring(prefix.get().getPrefix().length()).trim();
+
+        if (prefix.get().equals(PREFIX_NAME)) {
+            if (!value.matches("[A-Za-z]+")) {
+                throw new ParseException(MESSAGE_INVALID_NAME_WORD);
+            }
+            return new NameWordTerm(value);
+        } else if (prefix.get().equals(PREFIX_CCA_NAME)) {
+            return new CcaMemberTerm(ParserUtil.parseCcaName(value));
+        } else if (prefix.get().equals(PREFIX_ROLE)) {
+            return new RoleTerm(ParserUtil.parseRole(value));
+        } else if (prefix.get().equals(PREFIX_PHONE)) {
+            if (!value.matches("\\d+")) {
+                throw new ParseException(MESSAGE_INVALID_PHONE_PREFIX);
+            }
+            return new PhonePrefixTerm(value);
+        } else if (prefix.get().equals(PREFIX_EMAIL)) {
+            if (!value.matches("\\S+")) {
+                throw new ParseException(MESSAGE_INVALID_EMAIL_PREFIX);
+            }
+            return new EmailPrefixTerm(value);
+        } else if (prefix.get().equals(PREFIX_ADDRESS)) {
+            if (value.isEmpty()) {
+                throw new ParseException(MESSAGE_INVALID_ADDRESS_PART);
+            }
+            return new AddressContainsTerm(value);
+        } else {
+            return parseAttendanceCondition(value);
+        }
+    }
+
+    private static AttendanceRateTerm parseAttendanceCondition(String value) throws ParseException {
+        Matcher matcher = ATTENDANCE_FORMAT.matcher(value);
+        if (!matcher.matches()) {
+            throw new ParseException(MESSAGE_INVALID_ATTENDANCE);
+        }
+
+        String ccaName = matcher.group("ccaName").trim();
+        Optional<CcaName> parsedCcaName = ccaName.isEmpty()
+                ? Optional.empty()
+                : Optional.of(ParserUtil.parseCcaName(ccaName));
+        Comparison comparison = Comparison.fromSymbol(matcher.group("comparison")).get();
+        int percentage = Integer.parseInt(matcher.group("percentage"));
+        if (!AttendanceRateTerm.isValidPercentage(percentage)) {
+            throw new ParseException(AttendanceRateTerm.MESSAGE_CONSTRAINTS);
+        }
+        return new AttendanceRateTerm(parsedCcaName, comparison, percentage);
+    }
 }
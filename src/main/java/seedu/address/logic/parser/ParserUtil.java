@@ -2,8 +2,11 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
@@ -26,6 +29,8 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX =
             "Index is not a non-zero unsigned integer and must not exceed 999.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE =
+            "Index range is not of the form START-END, where START is not greater than END.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it.
@@ -43,6 +48,40 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexes} into a list of distinct {@code Index} objects, in the order given.
+     * Indexes are separated by commas or whitespace, and {@code START-END} stands for all indexes from
+     * {@code START} to {@code END} inclusive, e.g. {@code 1, 3-5} stands for 1, 3, 4 and 5.
+     *
+     * @throws ParseException if no index is given, or any of the indexes or index ranges is invalid.
+     */
+    public static List<Index> parseIndexes(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+        String trimmedIndexes = oneBasedIndexes.trim();
+        if (trimmedIndexes.isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_INDEX);
+        }
+
+        Set<Index> indexes = new LinkedHashSet<>();
+        for (String indexOrRange : trimmedIndexes.split("[,\\s]+")) {
+            int rangeSeparator = indexOrRange.indexOf('-');
+            if (rangeSeparator == -1) {
+                indexes.add(parseIndex(indexOrRange));
+                continue;
+            }
+
+            Index start = parseIndex(indexOrRange.substring(0, rangeSeparator));
+            Index end = parseIndex(indexOrRange.substring(rangeSeparator + 1));
+            if (start.getZeroBased() > end.getZeroBased()) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+            for (int i = start.getZeroBased(); i <= end.getZeroBased(); i++) {
+                indexes.add(Index.fromZeroBased(i));
+            }
+        }
+        return new ArrayList<>(indexes);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
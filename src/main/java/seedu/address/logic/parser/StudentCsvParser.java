@@ -0,0 +1,223 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.util.CsvReader;
+import seedu.address.logic.Messages;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaInformation;
+import seedu.address.model.cca.CcaName;
+import seedu.address.model.person.Person;
+import seedu.address.model.role.Role;
+
+/**
+ * Parses a CSV file of students into the model's {@code Person} objects.
+ * <p>
+ * The first line of the file names its columns, which are {@value #COLUMN_NAME}, {@value #COLUMN_PHONE},
+ * {@value #COLUMN_EMAIL}, {@value #COLUMN_ADDRESS} and optionally {@value #COLUMN_CCAS}, in any order. The CCAs of
+ * a student are separated by {@value #CCA_SEPARATOR}, and each may be followed by {@value #ROLE_SEPARATOR} and the
+ * role of the student in it, e.g. {@code Basketball:Captain;Chess}.
+ * <p>
+ * The file is read in batches of {@link #BATCH_SIZE} rows, and the rows of each batch are validated on all available
+ * cores, as each row is independent of the others. An invalid row does not stop the rest of the file from being
+ * parsed, so that all of its errors can be reported at once.
+ */
+public class StudentCsvParser {
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_CCAS = "ccas";
+    public static final String CCA_SEPARATOR = ";";
+    public static final String ROLE_SEPARATOR = ":";
+
+    /** Number of rows that are validated together. */
+    public static final int BATCH_SIZE = 4096;
+
+    public static final String MESSAGE_MISSING_HEADER = "The file is empty. Its first line must name its columns: "
+            + String.join(", ", COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_ADDRESS) + " and optionally "
+            + COLUMN_CCAS + ".";
+    public static final String MESSAGE_MISSING_COLUMN = "The file has no %1$s column.";
+    public static final String MESSAGE_UNKNOWN_COLUMN = "The file has an unknown or repeated column: %1$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d.";
+    public static final String MESSAGE_CCA_NOT_FOUND = "%1$s does not exist in the CCA list.";
+    public static final String MESSAGE_REPEATED_CCA = "%1$s is listed more than once.";
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_ADDRESS);
+
+    private final Map<CcaName, Cca> ccas;
+
+    /**
+     * Creates a {@code StudentCsvParser} that puts students in the given CCAs.
+     *
+     * @param ccas the CCAs of the address book, by name.
+     */
+    public StudentCsvParser(Map<CcaName, Cca> ccas) {
+        requireNonNull(ccas);
+        this.ccas = ccas;
+    }
+
+    /**
+     * Parses the students in the CSV read from {@code reader}.
+     *
+     * @throws IOException if the CSV cannot be read or is not well-formed.
+     * @throws ParseException if the first line of the CSV does not name the columns of a student.
+     */
+    public ParsedStudents parse(Reader reader) throws IOException, ParseException {
+        requireNonNull(reader);
+        CsvReader csvReader = new CsvReader(reader);
+        Map<String, Integer> columns = parseHeader(csvReader.readRecord()
+                .orElseThrow(() -> new ParseException(MESSAGE_MISSING_HEADER)));
+
+        ParsedStudents parsedStudents = new ParsedStudents();
+        List<List<String>> rows = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        Optional<List<String>> row;
+        while ((row = csvReader.readRecord()).isPresent()) {
+            if (isBlank(row.get())) {
+                continue;
+            }
+            rows.add(row.get());
+            lineNumbers.add(csvReader.getRecordLineNumber());
+            if (rows.size() >= BATCH_SIZE) {
+                parseRows(rows, lineNumbers, columns, parsedStudents);
+                rows.clear();
+                lineNumbers.clear();
+            }
+        }
+        parseRows(rows, lineNumbers, columns, parsedStudents);
+        return parsedStudents;
+    }
+
+    /**
+     * Returns the position of each column named in {@code header}.
+     */
+    private static Map<String, Integer> parseHeader(List<String> header) throws ParseException {
+        Map<String, Integer> columns = new HashMap<>();
+        for (String column : header) {
+            String columnName = column.trim().toLowerCase(Locale.ROOT);
+            boolean isKnownColumn = REQUIRED_COLUMNS.contains(columnName) || columnName.equals(COLUMN_CCAS);
+            if (!isKnownColumn || columns.putIfAbsent(columnName, columns.size()) != null) {
+                throw new ParseException(String.format(MESSAGE_UNKNOWN_COLUMN, column));
+            }
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new ParseException(String.format(MESSAGE_MISSING_COLUMN, column));
+            }
+        }
+        return columns;
+    }
+
+    private static boolean isBlank(List<String> row) {
+        return row.size() == 1 && row.get(0).isBlank();
+    }
+
+    private void parseRows(List<List<String>> rows, List<Integer> lineNumbers, Map<String, Integer> columns,
+            ParsedStudents parsedStudents) {
+        int size = rows.size();
+        Person[] students = new Person[size];
+        String[] errors = new String[size];
+
+        IntStream.range(0, size).parallel().forEach(i -> {
+            try {
+                students[i] = parseRow(rows.get(i), columns);
+            } catch (ParseException pe) {
+                errors[i] = pe.getMessage();
+            }
+        });
+
+        for (int i = 0; i < size; i++) {
+            if (errors[i] != null) {
+                parsedStudents.errorsByLineNumber.put(lineNumbers.get(i), errors[i]);
+            } else {
+                parsedStudents.studentsByLineNumber.put(lineNumbers.get(i), students[i]);
+            }
+        }
+    }
+
+    private Person parseRow(List<String> row, Map<String, Integer> columns) throws ParseException {
+        if (row.size() != columns.size()) {
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, columns.size(), row.size()));
+        }
+
+        Set<CcaInformation> ccaInformations = columns.containsKey(COLUMN_CCAS)
+                ? parseCcaInformations(row.get(columns.get(COLUMN_CCAS)))
+                : new HashSet<>();
+        return new Person(ParserUtil.parseName(row.get(columns.get(COLUMN_NAME))),
+                ParserUtil.parsePhone(row.get(columns.get(COLUMN_PHONE))),
+                ParserUtil.parseEmail(row.get(columns.get(COLUMN_EMAIL))),
+                ParserUtil.parseAddress(row.get(columns.get(COLUMN_ADDRESS))),
+                ccaInformations);
+    }
+
+    /**
+     * Parses a list of CCAs, each optionally followed by the role of the student in it.
+     */
+    private Set<CcaInformation> parseCcaInformations(String ccaList) throws ParseException {
+        Set<CcaInformation> ccaInformations = new HashSet<>();
+        Set<CcaName> ccaNames = new HashSet<>();
+        for (String entry : ccaList.split(CCA_SEPARATOR)) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split(ROLE_SEPARATOR, 2);
+            CcaName ccaName = ParserUtil.parseCcaName(parts[0]);
+            Cca cca = ccas.get(ccaName);
+            if (cca == null) {
+                throw new ParseException(String.format(MESSAGE_CCA_NOT_FOUND, Messages.format(ccaName)));
+            } else if (!ccaNames.add(ccaName)) {
+                throw new ParseException(String.format(MESSAGE_REPEATED_CCA, Messages.format(ccaName)));
+            }
+
+            Role role = parts.length > 1 ? ParserUtil.parseRole(parts[1]) : Role.DEFAULT_ROLE;
+            if (!role.isDefaultRole() && !cca.hasRole(role)) {
+                throw new ParseException(Messages.MESSAGE_ROLE_NOT_FOUND);
+            }
+            ccaInformations.add(new CcaInformation(cca, role, cca.createNewAttendance()));
+        }
+        return ccaInformations;
+    }
+
+    /**
+     * The students parsed from a CSV file, and the errors in the rows that could not be parsed.
+     */
+    public static class ParsedStudents {
+        private final Map<Integer, Person> studentsByLineNumber = new LinkedHashMap<>();
+        private final SortedMap<Integer, String> errorsByLineNumber = new TreeMap<>();
+
+        /**
+         * Returns the students parsed from the valid rows, by the line number on which their row starts, in the
+         * order of the file.
+         */
+        public Map<Integer, Person> getStudentsByLineNumber() {
+            return Collections.unmodifiableMap(studentsByLineNumber);
+        }
+
+        /**
+         * Returns the error in each invalid row, by the line number on which the row starts.
+         */
+        public SortedMap<Integer, String> getErrorsByLineNumber() {
+            return Collections.unmodifiableSortedMap(errorsByLineNumber);
+        }
+    }
+}
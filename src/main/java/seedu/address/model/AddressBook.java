@@ -2,9 +2,12 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListSplice;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.cca.Cca;
 import seedu.address.model.cca.CcaName;
@@ -23,6 +26,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueCcaList ccas;
 
+    /** Incremented whenever the persons or ccas in this address book change. */
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -33,6 +39,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         ccas = new UniqueCcaList();
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> version++);
+        ccas.asUnmodifiableObservableList().addListener((ListChangeListener<Cca>) change -> version++);
     }
 
     public AddressBook() {}
@@ -132,6 +140,17 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the address book at once.
+     * The persons must not be the same as each other or as any person already in the address book.
+     */
+    public void addPersons(List<Person> toAdd) {
+        for (Person person : toAdd) {
+            validatePersonCcas(person);
+        }
+        persons.addAll(toAdd);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -151,6 +170,48 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Returns the persons in the address book who are members of the cca named {@code ccaName}.
+     */
+    public List<Person> getCcaMembers(CcaName ccaName) {
+        requireNonNull(ccaName);
+        return persons.getCcaMembers(ccaName);
+    }
+
+    /**
+     * Returns the number of persons in the address book who are members of the cca named {@code ccaName}.
+     */
+    public int countCcaMembers(CcaName ccaName) {
+        requireNonNull(ccaName);
+        return persons.countCcaMembers(ccaName);
+    }
+
+    /**
+     * Returns the persons in the address book whose names contain any of {@code keywords} as a whole word, ignoring
+     * case.
+     */
+    public List<Person> findPersonsByNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return persons.findByNameKeywords(keywords);
+    }
+
+    /**
+     * Returns the number of persons in the address book whose names contain {@code word} as a whole word, ignoring
+     * case.
+     */
+    public int countPersonsByNameWord(String word) {
+        requireNonNull(word);
+        return persons.countByNameWord(word);
+    }
+
+    /**
+     * Returns the persons in the address book whose names contain a word starting with {@code prefix}, ignoring case.
+     */
+    public List<Person> findPersonsByNamePrefix(String prefix) {
+        requireNonNull(prefix);
+        return persons.findByNamePrefix(prefix);
+    }
+
     //// cca-level operations
 
     /**
@@ -203,8 +264,64 @@ public class AddressBook implements ReadOnlyAddressBook {
         ccas.setCca(target, editedCca);
     }
 
+    //// transaction operations
+
+    /**
+     * Starts holding back the changes made to this address book from its observable lists, which keep showing it as
+     * it was. The other methods see the changes straight away.
+     */
+    void beginTransaction() {
+        ccas.beginBatch();
+        persons.beginBatch();
+    }
+
+    /**
+     * Notifies the observable lists of the changes made since {@link #beginTransaction()}, as a single change of each
+     * list that was changed.
+     */
+    void commitTransaction() {
+        ccas.commitBatch();
+        persons.commitBatch();
+    }
+
+    /**
+     * Undoes the changes made since {@link #beginTransaction()}, which the observable lists were never notified of.
+     */
+    void rollbackTransaction() {
+        ccas.rollbackBatch();
+        persons.rollbackBatch();
+    }
+
+    //// history operations
+
+    /**
+     * Applies {@code splice} to the person list, without checking that the CCAs of the inserted persons exist.
+     * Only meant for restoring an earlier state of this address book, in which they are known to exist once every
+     * splice of the restoration has been applied.
+     */
+    void splicePersons(ListSplice<Person> splice) {
+        persons.splice(splice);
+    }
+
+    /**
+     * Applies {@code splice} to the cca list.
+     * Only meant for restoring an earlier state of this address book, as persons may be left referring to ccas that
+     * are no longer in the address book.
+     */
+    void spliceCcas(ListSplice<Cca> splice) {
+        ccas.splice(splice);
+    }
+
     //// util methods
 
+    /**
+     * Returns a number that changes whenever the persons or ccas in this address book change.
+     * Comparing the versions before and after an operation tells whether the operation modified the address book.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
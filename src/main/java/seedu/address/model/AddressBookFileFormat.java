@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * Formats in which the address book data file can be stored.
+ */
+public enum AddressBookFileFormat {
+    /** Human-readable JSON, which can be edited by hand and shared with other tools. */
+    JSON,
+    /** Compact binary snapshot, which is smaller and faster to load than JSON. */
+    BINARY
+}
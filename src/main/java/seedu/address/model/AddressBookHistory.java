@@ -0,0 +1,146 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.ListSplice;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.person.Person;
+
+/**
+ * Records the changes made to an {@code AddressBook} so that they can be undone and redone.
+ * <p>
+ * Each change is kept as the splices that redo and undo it. As persons and ccas are immutable, the splices share
+ * them with the address book rather than copying them, so each step of the history only costs as much as the
+ * records it changed, however large the address book is.
+ * <p>
+ * Changes are grouped into steps by {@link #commit()}. Changes made after the last commit are undone together as
+ * a step of their own.
+ */
+class AddressBookHistory {
+
+    /** Maximum number of steps that can be undone. Older steps are forgotten. */
+    static final int MAX_UNDO_STEPS = 100;
+
+    private final Deque<List<Edit>> undoStack = new ArrayDeque<>();
+    private final Deque<List<Edit>> redoStack = new ArrayDeque<>();
+    private List<Edit> pendingEdits = new ArrayList<>();
+
+    /** True while this history is changing the address book itself, whose changes must not be recorded. */
+    private boolean isRestoring;
+
+    /**
+     * Creates a history that records the changes made to {@code addressBook} from now on.
+     */
+    AddressBookHistory(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change ->
+                record(change, addressBook::splicePersons));
+        addressBook.getCcaList().addListener((ListChangeListener<Cca>) change ->
+                record(change, addressBook::spliceCcas));
+    }
+
+    private <T> void record(ListChangeListener.Change<? extends T> change, Consumer<ListSplice<T>> applier) {
+        if (isRestoring) {
+            return;
+        }
+        while (change.next()) {
+            assert !change.wasPermutated() && !change.wasUpdated() : "Address book lists are never reordered";
+            List<T> removed = new ArrayList<>(change.getRemoved());
+            List<T> added = new ArrayList<>(change.getAddedSubList());
+            for (ListSplice<T> splice : ListSplice.between(removed, added)) {
+                int index = change.getFrom() + splice.getIndex();
+                List<T> replaced = removed.subList(splice.getIndex(), splice.getIndex() + splice.getRemovedCount());
+                ListSplice<T> forward = new ListSplice<>(index, splice.getRemovedCount(),
+                        splice.getInsertedElements());
+                ListSplice<T> backward = new ListSplice<>(index, splice.getInsertedElements().size(), replaced);
+                pendingEdits.add(new Edit(() -> applier.accept(backward), () -> applier.accept(forward)));
+            }
+        }
+    }
+
+    /**
+     * Groups the changes made since the last commit into a step that can be undone. Does nothing if there are no
+     * such changes. Otherwise, the steps that could be redone are forgotten.
+     */
+    void commit() {
+        if (pendingEdits.isEmpty()) {
+            return;
+        }
+        undoStack.push(pendingEdits);
+        pendingEdits = new ArrayList<>();
+        redoStack.clear();
+        if (undoStack.size() > MAX_UNDO_STEPS) {
+            undoStack.removeLast();
+        }
+    }
+
+    boolean canUndo() {
+        return !undoStack.isEmpty() || !pendingEdits.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Restores the address book to the state before the last step.
+     *
+     * @throws IllegalStateException if there is no step to undo.
+     */
+    void undo() {
+        commit();
+        if (undoStack.isEmpty()) {
+            throw new IllegalStateException("There is no change to undo.");
+        }
+        List<Edit> step = undoStack.pop();
+        restore(() -> {
+            for (int i = step.size() - 1; i >= 0; i--) {
+                step.get(i).undo.run();
+            }
+        });
+        redoStack.push(step);
+    }
+
+    /**
+     * Restores the address book to the state after the last undone step.
+     *
+     * @throws IllegalStateException if there is no step to redo.
+     */
+    void redo() {
+        if (redoStack.isEmpty()) {
+            throw new IllegalStateException("There is no change to redo.");
+        }
+        List<Edit> step = redoStack.pop();
+        restore(() -> step.forEach(edit -> edit.redo.run()));
+        undoStack.push(step);
+    }
+
+    private void restore(Runnable restoration) {
+        isRestoring = true;
+        try {
+            restoration.run();
+        } finally {
+            isRestoring = false;
+        }
+    }
+
+    /**
+     * A single change to one of the lists of the address book.
+     */
+    private static class Edit {
+        private final Runnable undo;
+        private final Runnable redo;
+
+        Edit(Runnable undo, Runnable redo) {
+            this.undo = undo;
+            this.redo = redo;
+        }
+    }
+}
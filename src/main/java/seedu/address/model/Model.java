@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -46,6 +48,64 @@ public interface Model {
      */
     void setAddressBookFilePath(Path addressBookFilePath);
 
+    /**
+     * Starts a transaction. Until it is committed, changes to the address book are seen by the queries of this
+     * model, such as {@link #hasPerson(Person)}, while the observable lists, including those of
+     * {@link #getAddressBook()}, keep showing the address book as it was.
+     *
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    void beginTransaction();
+
+    /**
+     * Publishes the changes made in the current transaction to the address book as a single change of each of its
+     * lists.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void commitTransaction();
+
+    /**
+     * Undoes the changes made in the current transaction, which were never published.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns true if a transaction is in progress.
+     */
+    boolean isInTransaction();
+
+    /**
+     * Marks the end of a step of changes to the address book, which {@link #undoAddressBook()} undoes together.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there are changes to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there are undone changes to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Undoes the last step of changes to the address book.
+     *
+     * @throws IllegalStateException if there is nothing to undo, or a transaction is in progress.
+     */
+    void undoAddressBook();
+
+    /**
+     * Redoes the last undone step of changes to the address book.
+     *
+     * @throws IllegalStateException if there is nothing to redo, or a transaction is in progress.
+     */
+    void redoAddressBook();
+
     /**
      * Replaces address book data with the data in {@code addressBook}.
      */
@@ -54,6 +114,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the data in the address book changes.
+     * An unchanged version means the address book does not need to be saved again.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -83,6 +149,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons as a single change.
+     * {@code persons} must not contain the same person twice, or a person who already exists in the address book.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -118,6 +190,35 @@ public interface Model {
      */
     Cca getCca(CcaName ccaName);
 
+    /**
+     * Returns the persons in the address book who are members of the cca named {@code ccaName}.
+     */
+    List<Person> getCcaMembers(CcaName ccaName);
+
+    /**
+     * Returns the number of persons in the address book who are members of the cca named {@code ccaName}.
+     * They are counted without being listed, so this is cheaper than {@link #getCcaMembers(CcaName)}.
+     */
+    int countCcaMembers(CcaName ccaName);
+
+    /**
+     * Returns the persons in the address book whose names contain any of {@code keywords} as a whole word, ignoring
+     * case. The persons are found through an index of the words in their names, so no person's name is searched.
+     */
+    List<Person> findPersonsByNameKeywords(Collection<String> keywords);
+
+    /**
+     * Returns the number of persons in the address book whose names contain {@code word} as a whole word, ignoring
+     * case. They are counted without being listed, so this is cheaper than {@link #findPersonsByNameKeywords}.
+     */
+    int countPersonsByNameWord(String word);
+
+    /**
+     * Returns the persons in the address book whose names contain a word starting with {@code prefix}, ignoring case.
+     * An empty prefix matches everyone.
+     */
+    List<Person> findPersonsByNamePrefix(String prefix);
+
     /**
      * Replaces the given cca {@code target} with {@code editedCca}.
      * {@code target} must exist in the address book.
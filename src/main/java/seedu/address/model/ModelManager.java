@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -24,6 +26,9 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final AddressBookHistory history;
+
+    private boolean isInTransaction;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -36,6 +41,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        history = new AddressBookHistory(this.addressBook);
     }
 
     public ModelManager() {
@@ -77,6 +83,95 @@ public class ModelManager implements Model {
         userPrefs.setAddressBookFilePath(addressBookFilePath);
     }
 
+    //=========== Transactions ===============================================================================
+
+    @Override
+    public void beginTransaction() {
+        requireNoTransaction();
+        addressBook.beginTransaction();
+        isInTransaction = true;
+    }
+
+    @Override
+    public void commitTransaction() {
+        requireTransaction();
+        isInTransaction = false;
+        addressBook.commitTransaction();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        requireTransaction();
+        isInTransaction = false;
+        addressBook.rollbackTransaction();
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return isInTransaction;
+    }
+
+    private void requireTransaction() {
+        if (!isInTransaction()) {
+            throw new IllegalStateException("No transaction is in progress.");
+        }
+    }
+
+    /**
+     * Runs {@code operation} in a transaction, so that its changes are published together, or not at all if it
+     * throws. If a transaction is already in progress, {@code operation} becomes part of it instead.
+     */
+    private void runInTransaction(Runnable operation) {
+        if (isInTransaction()) {
+            operation.run();
+            return;
+        }
+
+        beginTransaction();
+        try {
+            operation.run();
+        } catch (RuntimeException e) {
+            rollbackTransaction();
+            throw e;
+        }
+        commitTransaction();
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public void commitAddressBook() {
+        history.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        requireNoTransaction();
+        history.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        requireNoTransaction();
+        history.redo();
+    }
+
+    private void requireNoTransaction() {
+        if (isInTransaction()) {
+            throw new IllegalStateException("A transaction is in progress.");
+        }
+    }
+
     //=========== AddressBook ================================================================================
 
     @Override
@@ -89,6 +184,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -118,6 +218,13 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -145,16 +252,16 @@ public class ModelManager implements Model {
     @Override
     public void deleteCca(Cca target) {
         requireNonNull(target);
-        addressBook.removeCca(target);
-        removeCcaFromAllStudents(target);
+        runInTransaction(() -> {
+            addressBook.removeCca(target);
+            removeCcaFromAllStudents(target);
+        });
     }
 
     private void removeCcaFromAllStudents(Cca cca) {
-        for (Person person : addressBook.getPersonList()) {
-            if (person.hasCca(cca.getCcaName())) {
-                Person newPerson = person.removeCca(cca);
-                addressBook.setPerson(person, newPerson);
-            }
+        for (Person person : addressBook.getCcaMembers(cca.getCcaName())) {
+            Person newPerson = person.removeCca(cca);
+            addressBook.setPerson(person, newPerson);
         }
     }
 
@@ -164,19 +271,48 @@ public class ModelManager implements Model {
         return addressBook.getCca(ccaName);
     }
 
+    @Override
+    public List<Person> getCcaMembers(CcaName ccaName) {
+        requireNonNull(ccaName);
+        return addressBook.getCcaMembers(ccaName);
+    }
+
+    @Override
+    public int countCcaMembers(CcaName ccaName) {
+        requireNonNull(ccaName);
+        return addressBook.countCcaMembers(ccaName);
+    }
+
+    @Override
+    public List<Person> findPersonsByNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonsByNameKeywords(keywords);
+    }
+
+    @Override
+    public int countPersonsByNameWord(String word) {
+        requireNonNull(word);
+        return addressBook.countPersonsByNameWord(word);
+    }
+
+    @Override
+    public List<Person> findPersonsByNamePrefix(String prefix) {
+        requireNonNull(prefix);
+        return addressBook.findPersonsByNamePrefix(prefix);
+    }
+
     @Override
     public void setCca(Cca target, Cca editedCca) {
         requireAllNonNull(target, editedCca);
-        addressBook.setCca(target, editedCca);
+        runInTransaction(() -> {
+            addressBook.setCca(target, editedCca);
 
-        // Checks if existing persons in the addressbook possess the cca to be replaced, thus replacing
-        // their corresponding cca with the new cca.
-        for (Person person : this.addressBook.getPersonList()) {
-            if (person.hasCca(target)) {
+            // Replaces the cca to be replaced with the new cca in the persons who possess it.
+            for (Person person : addressBook.getCcaMembers(target.getCcaName())) {
                 Person newPerson = person.updateCca(target, editedCca);
                 addressBook.setPerson(person, newPerson);
             }
-        }
+        });
     }
 
     //=========== Filtered Person List Accessors =============================================================
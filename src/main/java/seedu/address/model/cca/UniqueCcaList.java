@@ -3,11 +3,16 @@ package seedu.address.model.cca;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListSplice;
+import seedu.address.commons.util.StagedList;
 import seedu.address.model.cca.exceptions.CcaNotFoundException;
 import seedu.address.model.cca.exceptions.DuplicateCcaException;
 
@@ -19,21 +24,25 @@ import seedu.address.model.cca.exceptions.DuplicateCcaException;
  * to ensure that the CCA with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * <p>
+ * The list also keeps its CCAs in a hash map keyed by name, so looking a CCA up by name takes constant time.
+ * <p>
+ * Changes made between {@link #beginBatch()} and {@link #commitBatch()} are held back from the observable list,
+ * which is then notified of all of them as a single change. The other methods see them straight away.
  *
  * @see Cca#isSameCca(Cca)
  */
 public class UniqueCcaList implements Iterable<Cca> {
 
-    private final ObservableList<Cca> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Cca> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final StagedList<Cca> internalList = new StagedList<>(this::index, this::unindex);
+    private final Map<CcaName, Cca> ccasByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent CCA as the given argument.
      */
     public boolean contains(Cca toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCca);
+        return ccasByName.containsKey(toCheck.getCcaName());
     }
 
     /**
@@ -41,7 +50,7 @@ public class UniqueCcaList implements Iterable<Cca> {
      */
     public boolean contains(CcaName ccaName) {
         requireNonNull(ccaName);
-        return internalList.stream().anyMatch(cca -> cca.getCcaName().equals(ccaName));
+        return ccasByName.containsKey(ccaName);
     }
 
     /**
@@ -53,7 +62,7 @@ public class UniqueCcaList implements Iterable<Cca> {
         if (contains(toAdd)) {
             throw new DuplicateCcaException();
         }
-        internalList.add(toAdd);
+        internalList.splice(new ListSplice<>(internalList.size(), 0, List.of(toAdd)));
     }
 
     /**
@@ -62,12 +71,11 @@ public class UniqueCcaList implements Iterable<Cca> {
      */
     public Cca getCca(CcaName ccaName) {
         requireNonNull(ccaName);
-        for (Cca cca : internalList) {
-            if (cca.getCcaName().equals(ccaName)) {
-                return cca;
-            }
+        Cca cca = ccasByName.get(ccaName);
+        if (cca == null) {
+            throw new CcaNotFoundException();
         }
-        throw new CcaNotFoundException();
+        return cca;
     }
 
     /**
@@ -78,16 +86,13 @@ public class UniqueCcaList implements Iterable<Cca> {
     public void setCca(Cca target, Cca editedCca) {
         requireAllNonNull(target, editedCca);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new CcaNotFoundException();
-        }
-
-        if (!target.isSameCca(editedCca) && contains(editedCca)) {
+        int index = indexOf(target);
+        Cca existingCca = internalList.get(index);
+        if (isIndexedAsOtherThan(editedCca, Set.of(existingCca))) {
             throw new DuplicateCcaException();
         }
 
-        internalList.set(index, editedCca);
+        internalList.splice(new ListSplice<>(index, 1, List.of(editedCca)));
     }
 
     /**
@@ -96,7 +101,7 @@ public class UniqueCcaList implements Iterable<Cca> {
      */
     public void setCcas(UniqueCcaList ccas) {
         requireNonNull(ccas);
-        internalList.setAll(ccas.internalList);
+        setCcas(ccas.internalList.asUnmodifiableList());
     }
 
     /**
@@ -109,7 +114,7 @@ public class UniqueCcaList implements Iterable<Cca> {
             throw new DuplicateCcaException();
         }
 
-        internalList.setAll(ccas);
+        internalList.splice(new ListSplice<>(0, internalList.size(), ccas));
     }
 
     /**
@@ -118,21 +123,69 @@ public class UniqueCcaList implements Iterable<Cca> {
      */
     public void remove(Cca toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new CcaNotFoundException();
+        internalList.splice(new ListSplice<>(indexOf(toRemove), 1, List.of()));
+    }
+
+    /**
+     * Replaces the range of CCAs that {@code splice} removes with the CCAs it inserts.
+     * The inserted CCAs must not be the same as each other or as any CCA outside the replaced range.
+     *
+     * @throws IndexOutOfBoundsException if the replaced range does not lie within the list.
+     */
+    public void splice(ListSplice<Cca> splice) {
+        requireNonNull(splice);
+        int from = splice.getIndex();
+        int to = from + splice.getRemovedCount();
+        if (to > internalList.size()) {
+            throw new IndexOutOfBoundsException("Splice does not fit a list of size " + internalList.size());
         }
+
+        Set<Cca> removed = new HashSet<>(internalList.asUnmodifiableList().subList(from, to));
+        List<Cca> inserted = splice.getInsertedElements();
+        if (!ccasAreUnique(inserted) || inserted.stream().anyMatch(cca -> isIndexedAsOtherThan(cca, removed))) {
+            throw new DuplicateCcaException();
+        }
+        internalList.splice(splice);
+    }
+
+    /**
+     * Starts holding back the changes made to this list from its observable list.
+     *
+     * @throws IllegalStateException if a batch is already in progress.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Notifies the observable list of the changes made since {@link #beginBatch()}, as a single change.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void commitBatch() {
+        internalList.commitBatch();
+    }
+
+    /**
+     * Undoes the changes made since {@link #beginBatch()}, which the observable list was never notified of.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void rollbackBatch() {
+        internalList.rollbackBatch();
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * While a batch is in progress, it does not show the changes made in the batch.
      */
     public ObservableList<Cca> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+        return internalList.asUnmodifiableObservableList();
     }
 
     @Override
     public Iterator<Cca> iterator() {
-        return internalList.iterator();
+        return internalList.asUnmodifiableList().iterator();
     }
 
     @Override
@@ -159,15 +212,52 @@ public class UniqueCcaList implements Iterable<Cca> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position in the list of the CCA that equals {@code toFind}.
+     * The name index rejects a CCA that is not in the list in constant time. The position of a CCA that is in the
+     * list is still found by scanning the list by reference, as in {@code UniquePersonList}: removals shift the
+     * backing array list anyway, so an index of positions would cost as much to keep up to date as the scan.
+     *
+     * @throws CcaNotFoundException if no CCA in the list equals {@code toFind}.
+     */
+    private int indexOf(Cca toFind) {
+        Cca indexedCca = ccasByName.get(toFind.getCcaName());
+        if (indexedCca == null || !indexedCca.equals(toFind)) {
+            throw new CcaNotFoundException();
+        }
+
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.get(i) == indexedCca) {
+                return i;
+            }
+        }
+        throw new AssertionError("Indexed CCA " + indexedCca + " is not in the list.");
+    }
+
+    /**
+     * Returns true if the index maps the name of {@code toCheck} to a CCA other than {@code ccas}.
+     */
+    private boolean isIndexedAsOtherThan(Cca toCheck, Set<Cca> ccas) {
+        Cca indexedCca = ccasByName.get(toCheck.getCcaName());
+        return indexedCca != null && !ccas.contains(indexedCca);
+    }
+
+    private void index(Cca cca) {
+        ccasByName.put(cca.getCcaName(), cca);
+    }
+
+    private void unindex(Cca cca) {
+        ccasByName.remove(cca.getCcaName(), cca);
+    }
+
     /**
      * Returns true if {@code ccas} contains only unique CCAs.
      */
     private boolean ccasAreUnique(List<Cca> ccas) {
-        for (int i = 0; i < ccas.size() - 1; i++) {
-            for (int j = i + 1; j < ccas.size(); j++) {
-                if (ccas.get(i).isSameCca(ccas.get(j))) {
-                    return false;
-                }
+        Set<CcaName> ccaNames = new HashSet<>();
+        for (Cca cca : ccas) {
+            if (!ccaNames.add(cca.getCcaName())) {
+                return false;
             }
         }
         return true;
@@ -4,11 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.cca.Amount;
@@ -34,25 +35,56 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<CcaInformation> ccaInformations;
+    private final Map<CcaName, CcaInformation> ccaInformationsByName;
 
     /**
      * Constructs a {@code Person}.
-     * Ensures all fields are non-null and initializes with a defensive copy of the provided set.
+     * Ensures all fields are non-null and initializes with a defensive copy of the provided CCA information.
      *
      * @param name The person's name.
      * @param phone The person's phone number.
      * @param email The person's email address.
      * @param address The person's address.
-     * @param ccaInformations The set of CCA-related information associated with the person.
+     * @param ccaInformations The CCA-related information associated with the person.
+     * @throws DuplicateCcaException if {@code ccaInformations} holds more than one entry for a CCA.
      */
-    public Person(Name name, Phone phone, Email email, Address address, Set<CcaInformation> ccaInformations) {
-        requireAllNonNull(name, phone, email, address, ccaInformations);
+    public Person(Name name, Phone phone, Email email, Address address,
+            Collection<CcaInformation> ccaInformations) {
+        this(name, phone, email, address, toMapByCcaName(ccaInformations));
+    }
+
+    /**
+     * Constructs a {@code Person} that takes ownership of {@code ccaInformationsByName}, which must not be modified
+     * afterwards.
+     */
+    private Person(Name name, Phone phone, Email email, Address address,
+            Map<CcaName, CcaInformation> ccaInformationsByName) {
+        requireAllNonNull(name, phone, email, address, ccaInformationsByName);
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.ccaInformations = new HashSet<>(ccaInformations);
+        this.ccaInformationsByName = Collections.unmodifiableMap(ccaInformationsByName);
+    }
+
+    private static Map<CcaName, CcaInformation> toMapByCcaName(Collection<CcaInformation> ccaInformations) {
+        requireNonNull(ccaInformations);
+        Map<CcaName, CcaInformation> ccaInformationsByName = new HashMap<>();
+        for (CcaInformation ccaInformation : ccaInformations) {
+            if (ccaInformationsByName.put(ccaInformation.getCcaName(), ccaInformation) != null) {
+                throw new DuplicateCcaException();
+            }
+        }
+        return ccaInformationsByName;
+    }
+
+    /**
+     * Returns a copy of this person with {@code ccaInformation} replacing any existing information for its CCA.
+     */
+    private Person withCcaInformation(CcaInformation ccaInformation) {
+        Map<CcaName, CcaInformation> newCcaInformationsByName = new HashMap<>(ccaInformationsByName);
+        newCcaInformationsByName.put(ccaInformation.getCcaName(), ccaInformation);
+        return new Person(name, phone, email, address, newCcaInformationsByName);
     }
 
     /**
@@ -92,30 +124,31 @@ public class Person {
     }
 
     /**
-     * Returns the CCA information associated with the specified CCA.
-     * {@code cca} must exist in the person's CCA information.
+     * Returns the CCA information associated with the specified CCA, looked up by the CCA's name only.
+     * The returned information may hold an older version of {@code cca}, e.g. with a different number of sessions.
+     * A CCA with the same name as {@code cca} must exist in the person's CCA information.
      *
      * @param cca The CCA to retrieve information for.
      * @return The {@code CcaInformation} object associated with the specified CCA.
      * @throws CcaNotFoundException If the specified CCA is not found in the person's CCA information.
      */
     public CcaInformation getCcaInformation(Cca cca) {
-        for (CcaInformation ccaInformation : ccaInformations) {
-            if (ccaInformation.getCca().equals(cca)) {
-                return ccaInformation;
-            }
+        requireNonNull(cca);
+        CcaInformation ccaInformation = ccaInformationsByName.get(cca.getCcaName());
+        if (ccaInformation == null) {
+            throw new CcaNotFoundException();
         }
-        throw new CcaNotFoundException();
+        return ccaInformation;
     }
 
     /**
-     * Returns an unmodifiable view of the person's CCA information.
+     * Returns an unmodifiable view of the person's CCA information, which holds one entry per CCA.
      * Prevents external modifications to maintain immutability.
      *
-     * @return An unmodifiable {@code Set<CcaInformation>} associated with the person.
+     * @return An unmodifiable {@code Collection<CcaInformation>} associated with the person.
      */
-    public Set<CcaInformation> getCcaInformations() {
-        return Collections.unmodifiableSet(ccaInformations);
+    public Collection<CcaInformation> getCcaInformations() {
+        return ccaInformationsByName.values();
     }
 
     /**
@@ -126,7 +159,7 @@ public class Person {
      */
     public List<Cca> getCcas() {
         List<Cca> ccas = new ArrayList<>();
-        for (CcaInformation ccaInformation : ccaInformations) {
+        for (CcaInformation ccaInformation : ccaInformationsByName.values()) {
             ccas.add(ccaInformation.getCca());
         }
         return Collections.unmodifiableList(ccas);
@@ -160,15 +193,11 @@ public class Person {
             throw new DuplicateCcaException();
         }
 
-        CcaInformation newCcaInformation = new CcaInformation(cca, Role.DEFAULT_ROLE, newAttendance);
-        Set<CcaInformation> newCcaInformations = new HashSet<>(ccaInformations);
-        newCcaInformations.add(newCcaInformation);
-        return new Person(this.name, this.phone, this.email, this.address, newCcaInformations);
+        return withCcaInformation(new CcaInformation(cca, Role.DEFAULT_ROLE, newAttendance));
     }
 
     /**
      * Removes the specified CCA from the person's CCA information based on CCA name identity.
-     * If multiple entries exist for the same CCA name (due to past errors), this will remove all of them.
      *
      * @param cca The CCA to remove.
      * @return A new Person object with the specified CCA Information removed.
@@ -176,19 +205,13 @@ public class Person {
      */
     public Person removeCca(Cca cca) {
         requireNonNull(cca);
-        Set<CcaInformation> newCcaInformations = new HashSet<>(ccaInformations);
-
         if (!hasCca(cca)) {
             throw new CcaNotFoundException();
         }
 
-        for (CcaInformation currentInfo : this.ccaInformations) {
-            if (currentInfo.isSameCca(cca)) {
-                newCcaInformations.remove(currentInfo);
-            }
-        }
-
-        return new Person(name, phone, email, address, newCcaInformations);
+        Map<CcaName, CcaInformation> newCcaInformationsByName = new HashMap<>(ccaInformationsByName);
+        newCcaInformationsByName.remove(cca.getCcaName());
+        return new Person(name, phone, email, address, newCcaInformationsByName);
     }
 
     /**
@@ -199,11 +222,9 @@ public class Person {
      * @return {@code true} if the person can attend the specified number of sessions, otherwise {@code false}.
      */
     public boolean canAttend(Cca cca, Amount amount) {
-        if (!hasCca(cca)) {
-            return false;
-        }
-        CcaInformation ccaInformation = getCcaInformation(cca);
-        return ccaInformation.canAttend(amount);
+        requireNonNull(cca);
+        CcaInformation ccaInformation = ccaInformationsByName.get(cca.getCcaName());
+        return ccaInformation != null && ccaInformation.canAttend(amount);
     }
 
     /**
@@ -215,15 +236,8 @@ public class Person {
      * @throws CcaNotFoundException If the person is not enrolled in the CCA.
      */
     public Person attend(Cca cca, Amount amount) {
-        if (!hasCca(cca)) {
-            throw new CcaNotFoundException();
-        }
         CcaInformation ccaInformation = getCcaInformation(cca);
-        CcaInformation newCcaInformation = ccaInformation.attend(amount);
-        Set<CcaInformation> newCcaInformations = new HashSet<>(ccaInformations);
-        newCcaInformations.remove(ccaInformation);
-        newCcaInformations.add(newCcaInformation);
-        return new Person(name, phone, email, address, newCcaInformations);
+        return withCcaInformation(ccaInformation.attend(amount));
     }
 
     /**
@@ -248,11 +262,10 @@ public class Person {
 
         Attendance newAttendance = attendanceToUpdate.updateTotalSessions(newTotalSessions);
 
-        CcaInformation newCcaInformation = new CcaInformation(editedCca, currentRole, newAttendance);
-        Set<CcaInformation> newCcaInformations = new HashSet<>(ccaInformations);
-        newCcaInformations.remove(targetCcaInformation);
-        newCcaInformations.add(newCcaInformation);
-        return new Person(name, phone, email, address, newCcaInformations);
+        Map<CcaName, CcaInformation> newCcaInformationsByName = new HashMap<>(ccaInformationsByName);
+        newCcaInformationsByName.remove(target.getCcaName());
+        newCcaInformationsByName.put(editedCca.getCcaName(), new CcaInformation(editedCca, currentRole, newAttendance));
+        return new Person(name, phone, email, address, newCcaInformationsByName);
     }
 
     /**
@@ -268,14 +281,7 @@ public class Person {
     public Person addRole(Cca cca, Role role) {
         CcaInformation oldCcaInformation = getCcaInformation(cca);
 
-        CcaInformation newCcaInformation = oldCcaInformation.addRole(role);
-
-        // Replace old ccaInformation with new ccaInformation.
-        Set<CcaInformation> newCcaInformations = ccaInformations;
-        newCcaInformations.remove(oldCcaInformation);
-        newCcaInformations.add(newCcaInformation);
-
-        return new Person(name, phone, email, address, newCcaInformations);
+        return withCcaInformation(oldCcaInformation.addRole(role));
     }
 
     /**
@@ -289,14 +295,7 @@ public class Person {
     public Person removeRole(Cca cca) {
         CcaInformation oldCcaInformation = getCcaInformation(cca);
 
-        CcaInformation newCcaInformation = oldCcaInformation.removeRole();
-
-        // Replace old ccaInformation with new ccaInformation.
-        Set<CcaInformation> newCcaInformations = ccaInformations;
-        newCcaInformations.remove(oldCcaInformation);
-        newCcaInformations.add(newCcaInformation);
-
-        return new Person(name, phone, email, address, newCcaInformations);
+        return withCcaInformation(oldCcaInformation.removeRole());
     }
 
     /**
@@ -337,13 +336,7 @@ public class Person {
      */
     public boolean hasCca(Cca cca) {
         requireNonNull(cca);
-        for (Cca c : getCcas()) { // getCcas() extracts Cca from CcaInformation
-            // Use isSameCca (checks name only) instead of equals (checks name, roles, sessions)
-            if (c.isSameCca(cca)) {
-                return true;
-            }
-        }
-        return false;
+        return ccaInformationsByName.containsKey(cca.getCcaName());
     }
 
     /**
@@ -354,12 +347,7 @@ public class Person {
      */
     public boolean hasCca(CcaName ccaName) {
         requireNonNull(ccaName);
-        for (Cca c : getCcas()) {
-            if (c.getCcaName().equals(ccaName)) {
-                return true;
-            }
-        }
-        return false;
+        return ccaInformationsByName.containsKey(ccaName);
     }
 
     /**
@@ -385,7 +373,7 @@ public class Person {
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
-                && ccaInformations.equals(otherPerson.ccaInformations);
+                && ccaInformationsByName.equals(otherPerson.ccaInformationsByName);
     }
 
     /**
@@ -395,7 +383,7 @@ public class Person {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(name, phone, email, address, ccaInformations);
+        return Objects.hash(name, phone, email, address, ccaInformationsByName);
     }
 
     /**
@@ -410,7 +398,7 @@ public class Person {
                 .add("phone", phone)
                 .add("email", email)
                 .add("address", address)
-                .add("ccainformations", ccaInformations)
+                .add("ccainformations", ccaInformationsByName.values())
                 .toString();
     }
 
@@ -0,0 +1,18 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.Model;
+
+/**
+ * Tests whether a {@code Person} is wanted by a search, and can find all such persons in a model without testing
+ * each of them, through the indexes that the model keeps.
+ */
+public interface PersonQuery extends Predicate<Person> {
+
+    /**
+     * Returns the persons in the address book of {@code model} that this query matches, in no particular order.
+     */
+    List<Person> findMatches(Model model);
+}
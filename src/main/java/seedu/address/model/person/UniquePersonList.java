@@ -3,11 +3,25 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListSplice;
+import seedu.address.commons.util.StagedList;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.cca.CcaInformation;
+import seedu.address.model.cca.CcaName;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -19,21 +33,39 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * <p>
+ * As persons are the same if they share any of their name, phone or email, the list keeps a hash index on each of
+ * these fields, so checking whether a person is already in the list takes constant time. It also indexes the persons
+ * by the names of their CCAs, so finding the members of a CCA takes time proportional to the number of members,
+ * and by the words in their names, so finding persons by name takes time proportional to the number of matches.
+ * The words are also kept sorted, so the words starting with a prefix are found without going through all of them.
+ * <p>
+ * Changes made between {@link #beginBatch()} and {@link #commitBatch()} are held back from the observable list,
+ * which is then notified of all of them as a single change. The other methods see them straight away.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final StagedList<Person> internalList = new StagedList<>(this::index, this::unindex);
+    private final Map<Name, Person> personsByName = new HashMap<>();
+    private final Map<Phone, Person> personsByPhone = new HashMap<>();
+    private final Map<Email, Person> personsByEmail = new HashMap<>();
+    /** Members of each CCA, keyed by their names as names are unique and, unlike persons, immutable. */
+    private final Map<CcaName, Map<Name, Person>> membersByCcaName = new HashMap<>();
+    /** Persons whose names contain each word, in lower case. */
+    private final Map<String, Map<Name, Person>> personsByNameWord = new HashMap<>();
+    /** The keys of {@code personsByNameWord}, in order. */
+    private final NavigableSet<String> nameWords = new TreeSet<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName())
+                || personsByPhone.containsKey(toCheck.getPhone())
+                || personsByEmail.containsKey(toCheck.getEmail());
     }
 
     /**
@@ -41,7 +73,69 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsExcept(Person toCheck, Person except) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(p -> p.isSamePerson(toCheck) && !p.isSamePerson(except));
+        return isSamePersonExcept(personsByName.get(toCheck.getName()), except)
+                || isSamePersonExcept(personsByPhone.get(toCheck.getPhone()), except)
+                || isSamePersonExcept(personsByEmail.get(toCheck.getEmail()), except);
+    }
+
+    /**
+     * Returns the persons in the list who are members of the CCA named {@code ccaName}.
+     * The returned list is a copy, so the persons in it may be replaced or removed while iterating over it.
+     */
+    public List<Person> getCcaMembers(CcaName ccaName) {
+        requireNonNull(ccaName);
+        Map<Name, Person> members = membersByCcaName.get(ccaName);
+        return members == null ? new ArrayList<>() : new ArrayList<>(members.values());
+    }
+
+    /**
+     * Returns the number of persons in the list who are members of the CCA named {@code ccaName}, without listing
+     * them.
+     */
+    public int countCcaMembers(CcaName ccaName) {
+        requireNonNull(ccaName);
+        Map<Name, Person> members = membersByCcaName.get(ccaName);
+        return members == null ? 0 : members.size();
+    }
+
+    /**
+     * Returns the persons in the list whose names contain any of {@code keywords} as a whole word, ignoring case.
+     * Keywords that are not a single word match no one.
+     */
+    public List<Person> findByNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Map<Name, Person> matches = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            Map<Name, Person> persons = personsByNameWord.get(keyword.trim().toLowerCase(Locale.ROOT));
+            if (persons != null) {
+                matches.putAll(persons);
+            }
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    /**
+     * Returns the number of persons in the list whose names contain {@code word} as a whole word, ignoring case,
+     * without listing them.
+     */
+    public int countByNameWord(String word) {
+        requireNonNull(word);
+        Map<Name, Person> persons = personsByNameWord.get(word.trim().toLowerCase(Locale.ROOT));
+        return persons == null ? 0 : persons.size();
+    }
+
+    /**
+     * Returns the persons in the list whose names contain a word starting with {@code prefix}, ignoring case.
+     * An empty prefix matches everyone.
+     */
+    public List<Person> findByNamePrefix(String prefix) {
+        requireNonNull(prefix);
+        String lowerCasePrefix = prefix.trim().toLowerCase(Locale.ROOT);
+        Map<Name, Person> matches = new LinkedHashMap<>();
+        for (String word : nameWords.subSet(lowerCasePrefix, true, lowerCasePrefix + Character.MAX_VALUE, false)) {
+            matches.putAll(personsByNameWord.get(word));
+        }
+        return new ArrayList<>(matches.values());
     }
 
     /**
@@ -53,7 +147,19 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        internalList.splice(new ListSplice<>(internalList.size(), 0, List.of(toAdd)));
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list as a single change.
+     * The persons must not be the same as each other or as any person already in the list.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!personsAreUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.splice(new ListSplice<>(internalList.size(), 0, toAdd));
     }
 
     /**
@@ -64,16 +170,13 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
-
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        int index = indexOf(target);
+        Person existingPerson = internalList.get(index);
+        if (isIndexedAsOtherThan(editedPerson, Set.of(existingPerson))) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        internalList.splice(new ListSplice<>(index, 1, List.of(editedPerson)));
     }
 
     /**
@@ -82,14 +185,12 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
-        }
+        internalList.splice(new ListSplice<>(indexOf(toRemove), 1, List.of()));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setPersons(replacement.internalList.asUnmodifiableList());
     }
 
     /**
@@ -102,19 +203,70 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        internalList.splice(new ListSplice<>(0, internalList.size(), persons));
+    }
+
+    /**
+     * Replaces the range of persons that {@code splice} removes with the persons it inserts.
+     * The inserted persons must not be the same as each other or as any person outside the replaced range.
+     *
+     * @throws IndexOutOfBoundsException if the replaced range does not lie within the list.
+     */
+    public void splice(ListSplice<Person> splice) {
+        requireNonNull(splice);
+        int from = splice.getIndex();
+        int to = from + splice.getRemovedCount();
+        if (to > internalList.size()) {
+            throw new IndexOutOfBoundsException("Splice does not fit a list of size " + internalList.size());
+        }
+
+        Set<Person> removed = new HashSet<>(internalList.asUnmodifiableList().subList(from, to));
+        List<Person> inserted = splice.getInsertedElements();
+        if (!personsAreUnique(inserted)
+                || inserted.stream().anyMatch(person -> isIndexedAsOtherThan(person, removed))) {
+            throw new DuplicatePersonException();
+        }
+        internalList.splice(splice);
+    }
+
+    /**
+     * Starts holding back the changes made to this list from its observable list.
+     *
+     * @throws IllegalStateException if a batch is already in progress.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Notifies the observable list of the changes made since {@link #beginBatch()}, as a single change.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void commitBatch() {
+        internalList.commitBatch();
+    }
+
+    /**
+     * Undoes the changes made since {@link #beginBatch()}, which the observable list was never notified of.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void rollbackBatch() {
+        internalList.rollbackBatch();
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * While a batch is in progress, it does not show the changes made in the batch.
      */
     public ObservableList<Person> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+        return internalList.asUnmodifiableObservableList();
     }
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalList.asUnmodifiableList().iterator();
     }
 
     @Override
@@ -142,15 +294,100 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position in the list of the person that equals {@code toFind}.
+     * The name index rejects a person who is not in the list in constant time. The position of a person who is in the
+     * list is still found by scanning the list, by reference rather than with {@code equals}. This is deliberate: the
+     * backing array list shifts the persons after a removed one anyway, so keeping an index of positions up to date
+     * would make every removal cost as much as the scan.
+     *
+     * @throws PersonNotFoundException if no person in the list equals {@code toFind}.
+     */
+    private int indexOf(Person toFind) {
+        Person indexedPerson = personsByName.get(toFind.getName());
+        if (indexedPerson == null || !indexedPerson.equals(toFind)) {
+            throw new PersonNotFoundException();
+        }
+
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.get(i) == indexedPerson) {
+                return i;
+            }
+        }
+        throw new AssertionError("Indexed person " + indexedPerson + " is not in the list.");
+    }
+
+    /**
+     * Returns true if the index maps any of the name, phone or email of {@code toCheck} to a person other than
+     * {@code persons}.
+     */
+    private boolean isIndexedAsOtherThan(Person toCheck, Set<Person> persons) {
+        return isOtherPerson(personsByName.get(toCheck.getName()), persons)
+                || isOtherPerson(personsByPhone.get(toCheck.getPhone()), persons)
+                || isOtherPerson(personsByEmail.get(toCheck.getEmail()), persons);
+    }
+
+    private static boolean isOtherPerson(Person indexedPerson, Set<Person> persons) {
+        return indexedPerson != null && !persons.contains(indexedPerson);
+    }
+
+    private static boolean isSamePersonExcept(Person indexedPerson, Person except) {
+        return indexedPerson != null && !indexedPerson.isSamePerson(except);
+    }
+
+    private void index(Person person) {
+        personsByName.put(person.getName(), person);
+        personsByPhone.put(person.getPhone(), person);
+        personsByEmail.put(person.getEmail(), person);
+        for (CcaInformation ccaInformation : person.getCcaInformations()) {
+            membersByCcaName.computeIfAbsent(ccaInformation.getCcaName(), ccaName -> new LinkedHashMap<>())
+                    .put(person.getName(), person);
+        }
+        for (String word : StringUtil.toLowerCaseWords(person.getName().fullName)) {
+            personsByNameWord.computeIfAbsent(word, unused -> {
+                nameWords.add(word);
+                return new HashMap<>();
+            }).put(person.getName(), person);
+        }
+    }
+
+    private void unindex(Person person) {
+        personsByName.remove(person.getName(), person);
+        personsByPhone.remove(person.getPhone(), person);
+        personsByEmail.remove(person.getEmail(), person);
+        for (CcaInformation ccaInformation : person.getCcaInformations()) {
+            Map<Name, Person> members = membersByCcaName.get(ccaInformation.getCcaName());
+            if (members != null) {
+                members.remove(person.getName(), person);
+                if (members.isEmpty()) {
+                    membersByCcaName.remove(ccaInformation.getCcaName());
+                }
+            }
+        }
+        for (String word : StringUtil.toLowerCaseWords(person.getName().fullName)) {
+            Map<Name, Person> persons = personsByNameWord.get(word);
+            if (persons != null) {
+                persons.remove(person.getName(), person);
+                if (persons.isEmpty()) {
+                    personsByNameWord.remove(word);
+                    nameWords.remove(word);
+                }
+            }
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
+     * As persons are the same if they share any of their name, phone or email, each of these is checked for
+     * repeats separately.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        Set<Phone> phones = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName()) || !phones.add(person.getPhone()) || !emails.add(person.getEmail())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,45 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person}'s {@code Address} contains the given text anywhere, ignoring case.
+ */
+public class AddressContainsTerm implements QueryTerm {
+    private final String part;
+
+    public AddressContainsTerm(String part) {
+        requireNonNull(part);
+        this.part = part.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getAddress().value.toLowerCase(Locale.ROOT).contains(part);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressContainsTerm)) {
+            return false;
+        }
+
+        AddressContainsTerm otherTerm = (AddressContainsTerm) other;
+        return part.equals(otherTerm.part);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("part", part).toString();
+    }
+}
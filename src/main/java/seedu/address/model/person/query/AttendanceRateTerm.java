@@ -0,0 +1,148 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.cca.Attendance;
+import seedu.address.model.cca.CcaInformation;
+import seedu.address.model.cca.CcaName;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person}'s attendance rate, as a percentage of the sessions of a CCA, compares with a threshold
+ * in the given way. The attendance in the given CCA is tested if there is one, and the attendance in each of the
+ * person's CCAs otherwise, of which any may pass. CCAs without sessions have no attendance rate, so they never pass.
+ */
+public class AttendanceRateTerm implements QueryTerm {
+
+    public static final String MESSAGE_CONSTRAINTS = "Attendance percentages should be between 0 and 100.";
+
+    /**
+     * The ways in which an attendance rate can be compared with a threshold.
+     */
+    public enum Comparison {
+        AT_MOST("<="), AT_LEAST(">="), LESS_THAN("<"), MORE_THAN(">"), EQUAL_TO("=");
+
+        private final String symbol;
+
+        Comparison(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        /**
+         * Returns the comparison written as {@code symbol}, if there is one.
+         */
+        public static Optional<Comparison> fromSymbol(String symbol) {
+            return Arrays.stream(values()).filter(comparison -> comparison.symbol.equals(symbol)).findFirst();
+        }
+
+        private boolean holds(long left, long right) {
+            switch (this) {
+            case AT_MOST:
+                return left <= right;
+            case AT_LEAST:
+                return left >= right;
+            case LESS_THAN:
+                return left < right;
+            case MORE_THAN:
+                return left > right;
+            default:
+                return left == right;
+            }
+        }
+    }
+
+    private final Optional<CcaName> ccaName;
+    private final Comparison comparison;
+    private final int percentage;
+
+    /**
+     * Constructs an {@code AttendanceRateTerm}.
+     *
+     * @param ccaName The CCA whose attendance is tested, or empty to test the attendance in every CCA.
+     * @param percentage A percentage between 0 and 100.
+     */
+    public AttendanceRateTerm(Optional<CcaName> ccaName, Comparison comparison, int percentage) {
+        requireNonNull(ccaName);
+        requireNonNull(comparison);
+        checkArgument(isValidPercentage(percentage), MESSAGE_CONSTRAINTS);
+        this.ccaName = ccaName;
+        this.comparison = comparison;
+        this.percentage = percentage;
+    }
+
+    /**
+     * Returns true if {@code test} is a valid percentage.
+     */
+    public static boolean isValidPercentage(int test) {
+        return test >= 0 && test <= 100;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getCcaInformations().stream()
+                .filter(ccaInformation -> ccaName.map(ccaInformation.getCcaName()::equals).orElse(true))
+                .map(CcaInformation::getAttendance)
+                .anyMatch(this::isPassingAttendance);
+    }
+
+    private boolean isPassingAttendance(Attendance attendance) {
+        long totalSessions = attendance.getTotalSessions().getSessionCount();
+        if (totalSessions == 0) {
+            return false;
+        }
+        // compares attended / total with percentage / 100 without rounding
+        long attendedSessions = attendance.getSessionsAttended().getSessionCount();
+        return comparison.holds(attendedSessions * 100, percentage * totalSessions);
+    }
+
+    @Override
+    public Optional<List<Person>> findCandidates(Model model) {
+        return ccaName.map(model::getCcaMembers)
+                .map(members -> members.stream().filter(this).collect(Collectors.toList()));
+    }
+
+    @Override
+    public OptionalInt estimateCandidateCount(Model model) {
+        // every candidate is a member of the CCA, though not every member passes
+        return ccaName.map(name -> OptionalInt.of(model.countCcaMembers(name))).orElse(OptionalInt.empty());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceRateTerm)) {
+            return false;
+        }
+
+        AttendanceRateTerm otherTerm = (AttendanceRateTerm) other;
+        return ccaName.equals(otherTerm.ccaName)
+                && comparison == otherTerm.comparison
+                && percentage == otherTerm.percentage;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("ccaName", ccaName)
+                .add("comparison", comparison.getSymbol())
+                .add("percentage", percentage)
+                .toString();
+    }
+}
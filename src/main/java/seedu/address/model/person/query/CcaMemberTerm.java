@@ -0,0 +1,59 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.cca.CcaName;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} is a member of the CCA with the given name.
+ */
+public class CcaMemberTerm implements QueryTerm {
+    private final CcaName ccaName;
+
+    public CcaMemberTerm(CcaName ccaName) {
+        requireNonNull(ccaName);
+        this.ccaName = ccaName;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.hasCca(ccaName);
+    }
+
+    @Override
+    public Optional<List<Person>> findCandidates(Model model) {
+        return Optional.of(model.getCcaMembers(ccaName));
+    }
+
+    @Override
+    public OptionalInt estimateCandidateCount(Model model) {
+        return OptionalInt.of(model.countCcaMembers(ccaName));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CcaMemberTerm)) {
+            return false;
+        }
+
+        CcaMemberTerm otherTerm = (CcaMemberTerm) other;
+        return ccaName.equals(otherTerm.ccaName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("ccaName", ccaName).toString();
+    }
+}
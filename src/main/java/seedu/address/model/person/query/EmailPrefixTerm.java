@@ -0,0 +1,45 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person}'s {@code Email} starts with the given text, ignoring case.
+ */
+public class EmailPrefixTerm implements QueryTerm {
+    private final String prefix;
+
+    public EmailPrefixTerm(String prefix) {
+        requireNonNull(prefix);
+        this.prefix = prefix.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getEmail().value.toLowerCase(Locale.ROOT).startsWith(prefix);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EmailPrefixTerm)) {
+            return false;
+        }
+
+        EmailPrefixTerm otherTerm = (EmailPrefixTerm) other;
+        return prefix.equals(otherTerm.prefix);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("prefix", prefix).toString();
+    }
+}
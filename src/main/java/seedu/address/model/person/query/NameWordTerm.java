@@ -0,0 +1,64 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} contains the given word, ignoring case.
+ */
+public class NameWordTerm implements QueryTerm {
+    private final String word;
+
+    /**
+     * Constructs a {@code NameWordTerm}.
+     *
+     * @param word A single word.
+     */
+    public NameWordTerm(String word) {
+        requireNonNull(word);
+        this.word = word;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return StringUtil.containsWordIgnoreCase(person.getName().fullName, word);
+    }
+
+    @Override
+    public Optional<List<Person>> findCandidates(Model model) {
+        return Optional.of(model.findPersonsByNameKeywords(List.of(word)));
+    }
+
+    @Override
+    public OptionalInt estimateCandidateCount(Model model) {
+        return OptionalInt.of(model.countPersonsByNameWord(word));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameWordTerm)) {
+            return false;
+        }
+
+        NameWordTerm otherTerm = (NameWordTerm) other;
+        return word.equalsIgnoreCase(otherTerm.word);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("word", word).toString();
+    }
+}
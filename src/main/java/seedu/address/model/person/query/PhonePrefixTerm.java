@@ -0,0 +1,43 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person}'s {@code Phone} starts with the given digits.
+ */
+public class PhonePrefixTerm implements QueryTerm {
+    private final String prefix;
+
+    public PhonePrefixTerm(String prefix) {
+        requireNonNull(prefix);
+        this.prefix = prefix;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getPhone().value.startsWith(prefix);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhonePrefixTerm)) {
+            return false;
+        }
+
+        PhonePrefixTerm otherTerm = (PhonePrefixTerm) other;
+        return prefix.equals(otherTerm.prefix);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("prefix", prefix).toString();
+    }
+}
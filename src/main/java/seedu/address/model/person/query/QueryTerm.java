@@ -0,0 +1,32 @@
+package seedu.address.model.person.query;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Predicate;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * A condition on the details of a {@code Person}, which is one of the terms of a {@link StructuredQuery}.
+ */
+public interface QueryTerm extends Predicate<Person> {
+
+    /**
+     * Returns exactly the persons in the address book of {@code model} that satisfy this condition, if the model
+     * keeps an index that finds them without testing every person. Returns an empty {@code Optional} otherwise.
+     */
+    default Optional<List<Person>> findCandidates(Model model) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns an upper bound on the number of persons that {@link #findCandidates(Model)} would return, read from the
+     * size of the index it would use, without finding them. Returns an empty {@code OptionalInt} exactly when
+     * {@link #findCandidates(Model)} returns an empty {@code Optional}.
+     */
+    default OptionalInt estimateCandidateCount(Model model) {
+        return OptionalInt.empty();
+    }
+}
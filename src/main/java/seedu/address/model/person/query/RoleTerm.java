@@ -0,0 +1,45 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.role.Role;
+
+/**
+ * Tests that a {@code Person} has the given {@code Role} in any of their CCAs, ignoring case.
+ */
+public class RoleTerm implements QueryTerm {
+    private final Role role;
+
+    public RoleTerm(Role role) {
+        requireNonNull(role);
+        this.role = role;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getCcaInformations().stream()
+                .anyMatch(ccaInformation -> ccaInformation.getRole().roleName.equalsIgnoreCase(role.roleName));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RoleTerm)) {
+            return false;
+        }
+
+        RoleTerm otherTerm = (RoleTerm) other;
+        return role.roleName.equalsIgnoreCase(otherTerm.role.roleName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("role", role).toString();
+    }
+}
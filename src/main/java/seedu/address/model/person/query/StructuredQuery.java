@@ -0,0 +1,98 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+
+/**
+ * A query made of groups of {@link QueryTerm}s, which matches the persons who satisfy all the terms of any group.
+ * <p>
+ * Each group is planned separately when finding its matches. Of the terms that the model can look up in an index,
+ * the one whose index entry is smallest drives the search. Only that term's candidates are looked up, and they are
+ * tested against the other terms. A group without such terms has to test every person.
+ */
+public class StructuredQuery implements PersonQuery {
+
+    private final List<List<QueryTerm>> groups;
+
+    /**
+     * Constructs a {@code StructuredQuery}.
+     *
+     * @param groups Groups of terms, of which there must be at least one. Every group must have at least one term.
+     */
+    public StructuredQuery(List<List<QueryTerm>> groups) {
+        requireNonNull(groups);
+        checkArgument(!groups.isEmpty() && groups.stream().noneMatch(List::isEmpty), "Query has an empty group.");
+        this.groups = groups.stream().map(List::copyOf).collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return groups.stream().anyMatch(group -> group.stream().allMatch(term -> term.test(person)));
+    }
+
+    @Override
+    public List<Person> findMatches(Model model) {
+        requireNonNull(model);
+        Map<Name, Person> matches = new LinkedHashMap<>();
+        for (List<QueryTerm> group : groups) {
+            for (Person person : findMatches(model, group)) {
+                matches.put(person.getName(), person);
+            }
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    private static List<Person> findMatches(Model model, List<QueryTerm> group) {
+        QueryTerm drivingTerm = null;
+        int fewestCandidates = Integer.MAX_VALUE;
+        for (QueryTerm term : group) {
+            OptionalInt candidateCount = term.estimateCandidateCount(model);
+            if (candidateCount.isPresent() && (drivingTerm == null || candidateCount.getAsInt() < fewestCandidates)) {
+                drivingTerm = term;
+                fewestCandidates = candidateCount.getAsInt();
+            }
+        }
+        List<Person> candidates = drivingTerm == null
+                ? model.getAddressBook().getPersonList()
+                : drivingTerm.findCandidates(model).orElseThrow();
+
+        // the candidates of the driving term are known to satisfy it
+        QueryTerm satisfiedTerm = drivingTerm;
+        return candidates.stream()
+                .filter(person -> group.stream().allMatch(term -> term == satisfiedTerm || term.test(person)))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StructuredQuery)) {
+            return false;
+        }
+
+        StructuredQuery otherQuery = (StructuredQuery) other;
+        return groups.equals(otherQuery.groups);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("groups", groups).toString();
+    }
+}
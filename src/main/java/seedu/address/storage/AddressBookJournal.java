@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * An append-only log of {@link JsonAdaptedJournalEntry} records, stored one JSON object per line.
+ * The first line of the journal holds a hash of the contents of the snapshot file that the records apply to, so that
+ * a journal left behind by another snapshot (e.g. after the snapshot was edited by hand) is never replayed. The hash
+ * is used rather than the size and modified time of the file, as two different snapshots can share those. It is
+ * taken by {@link FileAddressBookStorage} as the snapshot streams through it, so the journal never reads the
+ * snapshot itself.
+ */
+class AddressBookJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private final Path journalFile;
+
+    public AddressBookJournal(Path journalFile) {
+        requireNonNull(journalFile);
+        this.journalFile = journalFile;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFile;
+    }
+
+    /**
+     * Discards all records and starts a new journal on top of the snapshot whose contents hash to
+     * {@code snapshotHash}.
+     */
+    public void reset(String snapshotHash) throws IOException {
+        requireNonNull(snapshotHash);
+        FileUtil.createParentDirsOfFile(journalFile);
+        String header = JsonUtil.toCompactJsonString(new SnapshotMarker(snapshotHash)) + "\n";
+        Files.write(journalFile, header.getBytes(UTF_8));
+    }
+
+    /**
+     * Appends {@code entries} to the journal, forcing them to the storage device before returning.
+     */
+    public void append(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        requireNonNull(entries);
+        StringBuilder records = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            records.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the records that apply to the snapshot whose contents hash to {@code snapshotHash}, in the order they
+     * were appended. Returns a {@code Result} without records if there is no journal, or if the journal belongs to
+     * another snapshot. An incomplete last record, as left behind by a crash in the middle of an append, is dropped.
+     *
+     * @throws DataLoadingException if any other record cannot be read.
+     */
+    public Result read(String snapshotHash) throws DataLoadingException {
+        requireNonNull(snapshotHash);
+        if (!FileUtil.isFileExists(journalFile)) {
+            return new Result(new ArrayList<>(), false);
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFile, UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFile + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        if (lines.isEmpty() || !isJournalOf(lines.get(0), snapshotHash)) {
+            logger.info("Ignoring journal " + journalFile + " as it does not belong to the current snapshot");
+            return new Result(new ArrayList<>(), false);
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (int i = 1; i < lines.size(); i++) {
+            try {
+                entries.add(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class));
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Dropping incomplete last record of journal " + journalFile);
+                    return new Result(entries, false);
+                }
+                logger.warning("Error reading record " + i + " of journal " + journalFile + ": " + e);
+                throw new DataLoadingException(e);
+            }
+        }
+        return new Result(entries, true);
+    }
+
+    /**
+     * Returns true if {@code header} marks a journal started on top of the snapshot that hashes to
+     * {@code snapshotHash}.
+     */
+    private static boolean isJournalOf(String header, String snapshotHash) {
+        try {
+            return snapshotHash.equals(JsonUtil.fromJsonString(header, SnapshotMarker.class).snapshotHash);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The records read from a journal.
+     */
+    public static class Result {
+        private final List<JsonAdaptedJournalEntry> entries;
+        private final boolean isAppendable;
+
+        Result(List<JsonAdaptedJournalEntry> entries, boolean isAppendable) {
+            this.entries = entries;
+            this.isAppendable = isAppendable;
+        }
+
+        public List<JsonAdaptedJournalEntry> getEntries() {
+            return entries;
+        }
+
+        /**
+         * Returns true if further records can be appended to the journal, i.e. it belongs to the snapshot and does
+         * not end with an incomplete record.
+         */
+        public boolean isAppendable() {
+            return isAppendable;
+        }
+    }
+
+    /**
+     * Identifies the version of a snapshot file by a hash of its contents.
+     */
+    private static class SnapshotMarker {
+        private final String snapshotHash;
+
+        @JsonCreator
+        SnapshotMarker(@JsonProperty("snapshotHash") String snapshotHash) {
+            this.snapshotHash = snapshotHash;
+        }
+    }
+}
@@ -42,4 +42,10 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Blocks until every save requested so far has been written to the file.
+     * @throws IOException if any of those saves failed.
+     */
+    void flushAddressBook() throws IOException;
+
 }
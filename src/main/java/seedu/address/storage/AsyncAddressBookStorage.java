@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that saves the address book to the wrapped {@code AddressBookStorage} on a
+ * background thread, so that callers do not wait for the data file to be written.
+ * Saves requested while an earlier save is still waiting to be written are coalesced, i.e. only the latest address
+ * book is written. A failure to write an address book is reported once, by the next call to
+ * {@link #saveAddressBook(ReadOnlyAddressBook)} or {@link #flushAddressBook()}. The address book is not written again,
+ * so that a storage that keeps failing does not keep every later flush failing too. The next save, which includes
+ * the same changes, tries again instead.
+ */
+public class AsyncAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService writer;
+    private final AtomicReference<ReadOnlyAddressBook> pendingSave = new AtomicReference<>();
+    private final AtomicReference<IOException> saveFailure = new AtomicReference<>();
+
+    /**
+     * Creates an {@code AsyncAddressBookStorage} that writes to {@code storage}.
+     */
+    public AsyncAddressBookStorage(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBook writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            flushAddressBook();
+        } catch (IOException e) {
+            logger.warning("Earlier save of the address book failed: " + e);
+        }
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Queues a snapshot of {@code addressBook} to be written by the background thread and returns immediately.
+     * The snapshot is queued even if this throws.
+     *
+     * @throws IOException if an earlier save failed since the last time a failure was reported.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        IOException earlierFailure = saveFailure.getAndSet(null);
+        pendingSave.set(new Snapshot(addressBook));
+        writer.execute(this::writePendingSave);
+        if (earlierFailure != null) {
+            throw earlierFailure;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} once all earlier saves have been written.
+     * Unlike {@link #saveAddressBook(ReadOnlyAddressBook)}, this does not return until the file has been written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        flushAddressBook();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Blocks until all saves requested so far have been written or have failed.
+     *
+     * @throws IOException if a save failed since the last time a failure was reported.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        try {
+            writer.submit(this::writePendingSave).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the address book to be saved");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        IOException failure = saveFailure.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+        storage.flushAddressBook();
+    }
+
+    /**
+     * Writes the latest address book queued for saving, if any. Runs on the background thread.
+     * If the address book cannot be written, the failure is kept to be reported, and the address book is dropped.
+     */
+    private void writePendingSave() {
+        ReadOnlyAddressBook addressBook = pendingSave.getAndSet(null);
+        if (addressBook == null) {
+            return;
+        }
+        IOException failure;
+        try {
+            storage.saveAddressBook(addressBook);
+            return;
+        } catch (IOException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            failure = new IOException(e);
+        }
+        logger.warning("Failed to save address book to " + getAddressBookFilePath() + ": " + failure);
+        saveFailure.set(failure);
+    }
+
+    /**
+     * An immutable copy of the contents of a {@code ReadOnlyAddressBook}, which is safe to read from the background
+     * thread while the original keeps changing.
+     * As persons and ccas are immutable, only the lists need to be copied.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Cca> ccas;
+
+        Snapshot(ReadOnlyAddressBook addressBook) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getPersonList()));
+            ccas = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getCcaList()));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Cca> getCcaList() {
+            return ccas;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaInformation;
+import seedu.address.model.cca.CcaName;
+import seedu.address.model.person.Person;
+import seedu.address.model.role.Role;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The snapshot starts with {@link #MAGIC} and a format version, followed by a table of all CCAs and then all
+ * persons. Persons refer to their CCAs by position in the CCA table. Strings are stored as UTF-8 bytes prefixed by
+ * their length, and all counts are stored as variable-length integers (7 bits per byte, least significant first).
+ * <p>
+ * A data file that is not a binary snapshot is read as JSON, so switching an existing data file to this format
+ * needs no separate import step; it is converted on the next save.
+ */
+public class BinaryAddressBookStorage extends FileAddressBookStorage {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_FORMAT_VERSION =
+            "Data file was written in binary format version %d by a newer version of the app.";
+    public static final String MESSAGE_INVALID_CCA_REFERENCE = "Person refers to a CCA that is not in the data file.";
+    public static final String MESSAGE_STRING_TOO_LONG = "Data file holds a string of %d bytes, which is too long.";
+
+    /** Leading bytes of every binary snapshot. The first byte never starts a JSON document. */
+    private static final byte[] MAGIC = {(byte) 0x89, 'A', 'B', 'K'};
+    private static final int MAX_STRING_LENGTH = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    public BinaryAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected ReadOnlyAddressBook readAddressBookFile(InputStream in) throws IOException, IllegalValueException {
+        PushbackInputStream sniffedIn = new PushbackInputStream(in, MAGIC.length);
+        byte[] leadingBytes = sniffedIn.readNBytes(MAGIC.length);
+        sniffedIn.unread(leadingBytes);
+        if (!Arrays.equals(MAGIC, leadingBytes)) {
+            logger.info("Data file is not a binary snapshot, reading it as JSON.");
+            return JsonAddressBookStorage.readJson(sniffedIn);
+        }
+
+        return decode(new DataInputStream(sniffedIn));
+    }
+
+    @Override
+    protected void writeAddressBookFile(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        encode(addressBook, new DataOutputStream(out));
+    }
+
+    private static void encode(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        out.write(MAGIC);
+        writeVarint(out, FORMAT_VERSION);
+
+        List<Cca> ccas = addressBook.getCcaList();
+        Map<CcaName, Integer> ccaIndices = new HashMap<>();
+        writeVarint(out, ccas.size());
+        for (Cca cca : ccas) {
+            ccaIndices.put(cca.getCcaName(), ccaIndices.size());
+            writeString(out, cca.getCcaName().fullCcaName);
+            writeVarint(out, cca.getRoles().size());
+            for (Role role : cca.getRoles()) {
+                writeString(out, role.roleName);
+            }
+            writeVarint(out, cca.getTotalSessions().getSessionCount());
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        writeVarint(out, persons.size());
+        for (Person person : persons) {
+            writeString(out, person.getName().fullName);
+            writeString(out, person.getPhone().value);
+            writeString(out, person.getEmail().value);
+            writeString(out, person.getAddress().value);
+            writeVarint(out, person.getCcaInformations().size());
+            for (CcaInformation ccaInformation : person.getCcaInformations()) {
+                Integer ccaIndex = ccaIndices.get(ccaInformation.getCcaName());
+                if (ccaIndex == null) {
+                    throw new IOException(MESSAGE_INVALID_CCA_REFERENCE);
+                }
+                writeVarint(out, ccaIndex);
+                writeString(out, ccaInformation.getRole().roleName);
+                writeVarint(out, ccaInformation.getAttendance().getSessionsAttended().getSessionCount());
+            }
+        }
+    }
+
+    private static AddressBook decode(DataInputStream in) throws IOException, IllegalValueException {
+        in.readFully(new byte[MAGIC.length]);
+        int formatVersion = readVarint(in);
+        if (formatVersion > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_FORMAT_VERSION, formatVersion));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        int ccaCount = readVarint(in);
+        List<String> ccaNames = new ArrayList<>();
+        Map<CcaName, Cca> ccasByName = new HashMap<>();
+        for (int i = 0; i < ccaCount; i++) {
+            String ccaName = readString(in);
+            int roleCount = readVarint(in);
+            List<JsonAdaptedRole> roles = new ArrayList<>();
+            for (int j = 0; j < roleCount; j++) {
+                roles.add(new JsonAdaptedRole(readString(in)));
+            }
+            int totalSessions = readVarint(in);
+
+            Cca cca = new JsonAdaptedCca(ccaName, roles, totalSessions).toModelType();
+            if (addressBook.hasCca(cca)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CCA);
+            }
+            addressBook.addCca(cca);
+            ccaNames.add(ccaName);
+            ccasByName.put(cca.getCcaName(), cca);
+        }
+
+        int personCount = readVarint(in);
+        List<JsonAdaptedPerson> unconvertedPersons = new ArrayList<>();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            String name = readString(in);
+            String phone = readString(in);
+            String email = readString(in);
+            String address = readString(in);
+            int ccaInformationCount = readVarint(in);
+            List<JsonAdaptedCcaInformation> ccaInformation = new ArrayList<>();
+            for (int j = 0; j < ccaInformationCount; j++) {
+                int ccaIndex = readVarint(in);
+                if (ccaIndex >= ccaNames.size()) {
+                    throw new IllegalValueException(MESSAGE_INVALID_CCA_REFERENCE);
+                }
+                String role = readString(in);
+                int attendedSessions = readVarint(in);
+                ccaInformation.add(new JsonAdaptedCcaInformation(ccaNames.get(ccaIndex), null,
+                        new JsonAdaptedRole(role), attendedSessions));
+            }
+
+            unconvertedPersons.add(new JsonAdaptedPerson(name, phone, email, address, ccaInformation));
+            if (unconvertedPersons.size() >= ParallelPersonConverter.BATCH_SIZE) {
+                persons.addAll(ParallelPersonConverter.toModelType(unconvertedPersons, ccasByName));
+                unconvertedPersons.clear();
+            }
+        }
+        persons.addAll(ParallelPersonConverter.toModelType(unconvertedPersons, ccasByName));
+        ParallelPersonConverter.setPersons(addressBook, persons);
+        return addressBook;
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        assert value >= 0;
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    private static int readVarint(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer in data file.");
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readVarint(in);
+        if (length > MAX_STRING_LENGTH) {
+            throw new IOException(String.format(MESSAGE_STRING_TOO_LONG, length));
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+}
@@ -0,0 +1,199 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in a single file on the hard disk.
+ * Before each save, the data file is kept as a backup, which is loaded instead if the data file cannot be loaded.
+ * Subclasses decide the format of the file.
+ * <p>
+ * The contents of the data file are hashed as they are read or written, so that the version of the file last seen
+ * by this storage can be identified without reading the file again.
+ */
+public abstract class FileAddressBookStorage implements AddressBookStorage {
+
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private static final Logger logger = LogsCenter.getLogger(FileAddressBookStorage.class);
+
+    private final Path filePath;
+
+    /** Hash of the contents of the data file as last read or written by this storage, or null if not known. */
+    private String dataFileHash;
+
+    protected FileAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the backup that is kept of the data file at {@code filePath} from before its last save.
+     */
+    public static Path getBackupFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns a SHA-256 hash of the contents of the data file as this storage last read or wrote it.
+     * Returns {@code Optional.empty()} if they are not known, e.g. if the data file could not be read and its backup
+     * was read instead.
+     */
+    public Optional<String> getDataFileHash() {
+        return Optional.ofNullable(dataFileHash);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the data file cannot be loaded, the backup kept from before the last save is loaded instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isDataFile = filePath.equals(this.filePath);
+        if (isDataFile) {
+            dataFileHash = null;
+        }
+
+        MessageDigest digest = newDigest();
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = readFile(filePath, digest);
+            if (isDataFile && addressBook.isPresent()) {
+                dataFileHash = HexFormat.of().formatHex(digest.digest());
+            }
+            return addressBook;
+        } catch (DataLoadingException e) {
+            Path backupFilePath = getBackupFilePath(filePath);
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Could not load " + filePath + ", loading backup " + backupFilePath + " instead");
+            try {
+                return readFile(backupFilePath, newDigest());
+            } catch (DataLoadingException backupException) {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data file at {@code filePath}, if any, is kept as a backup before it is replaced.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        boolean isDataFile = filePath.equals(this.filePath);
+        if (isDataFile) {
+            dataFileHash = null;
+        }
+
+        FileUtil.backUpFile(filePath, getBackupFilePath(filePath));
+        MessageDigest digest = newDigest();
+        FileUtil.writeToFile(filePath, out -> {
+            // Buffered on top of the digest as well, so that it is updated in bulk rather than a byte at a time
+            OutputStream digestingOut = new BufferedOutputStream(new DigestOutputStream(out, digest));
+            writeAddressBookFile(addressBook, digestingOut);
+            digestingOut.flush();
+        });
+        if (isDataFile) {
+            dataFileHash = HexFormat.of().formatHex(digest.digest());
+        }
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Saves are written before saveAddressBook returns, so there is nothing to wait for.
+    }
+
+    /**
+     * Reads the file at {@code filePath}, without falling back to its backup, passing all of its contents through
+     * {@code digest}. Returns {@code Optional.empty()} if there is no such file.
+     */
+    private Optional<ReadOnlyAddressBook> readFile(Path filePath, MessageDigest digest) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(
+                new DigestInputStream(FileUtil.openInputStream(filePath), digest))) {
+            ReadOnlyAddressBook addressBook = readAddressBookFile(in);
+            // The reader may stop before the end of the file, e.g. at trailing whitespace.
+            in.transferTo(OutputStream.nullOutputStream());
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Reads an address book from {@code in}, which holds the contents of a data file.
+     *
+     * @throws IOException if the contents could not be read or are not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    protected abstract ReadOnlyAddressBook readAddressBookFile(InputStream in)
+            throws IOException, IllegalValueException;
+
+    /**
+     * Writes {@code addressBook} to {@code out}, which replaces the contents of the data file.
+     */
+    protected abstract void writeAddressBookFile(ReadOnlyAddressBook addressBook, OutputStream out)
+            throws IOException;
+
+}
@@ -0,0 +1,188 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ListSplice;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that saves changes to the address book as compact records appended to a journal,
+ * instead of rewriting the whole snapshot kept by the wrapped {@code FileAddressBookStorage} on every save.
+ * The journal is compacted into the snapshot once it holds {@code compactionThreshold} records.
+ * Only the data file of the wrapped storage is journaled; reads and saves of any other file go straight to the
+ * wrapped storage.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 200;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final FileAddressBookStorage snapshotStorage;
+    private final AddressBookJournal journal;
+    private final int compactionThreshold;
+
+    /** Contents of the data file as of the last read or save, or null if they are not known. */
+    private List<Person> savedPersons;
+    private List<Cca> savedCcas;
+    private int journalLength;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshot in {@code snapshotStorage} and compacts
+     * the journal every {@code compactionThreshold} records.
+     */
+    public JournaledAddressBookStorage(FileAddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = new AddressBookJournal(getJournalFilePath(snapshotStorage.getAddressBookFilePath()));
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public JournaledAddressBookStorage(FileAddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            forgetSavedState();
+            return Optional.empty();
+        }
+
+        // The hash is unknown if the backup was read instead of the data file the journal was kept on top of.
+        Optional<String> snapshotHash = snapshotStorage.getDataFileHash();
+        AddressBookJournal.Result journalRecords = snapshotHash.isPresent()
+                ? journal.read(snapshotHash.get())
+                : new AddressBookJournal.Result(new ArrayList<>(), false);
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        List<Cca> ccas = new ArrayList<>(snapshot.get().getCcaList());
+        try {
+            for (JsonAdaptedJournalEntry entry : journalRecords.getEntries()) {
+                entry.applyTo(persons, ccas);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journal.getJournalFilePath() + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setCcas(ccas);
+            addressBook.setPersons(persons);
+        } catch (RuntimeException e) {
+            logger.info("Replaying " + journal.getJournalFilePath() + " gave invalid data: " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        rememberSavedState(addressBook);
+        // Start afresh with the next save if the journal is missing, stale or ends with a partial record.
+        journalLength = journalRecords.isAppendable() ? journalRecords.getEntries().size() : compactionThreshold;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        if (savedPersons == null || journalLength >= compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (ListSplice<Cca> splice : ListSplice.<Cca>between(savedCcas, addressBook.getCcaList())) {
+            entries.add(JsonAdaptedJournalEntry.ofCcas(splice));
+        }
+        for (ListSplice<Person> splice : ListSplice.<Person>between(savedPersons, addressBook.getPersonList())) {
+            entries.add(JsonAdaptedJournalEntry.ofPersons(splice));
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            journal.append(entries);
+        } catch (IOException e) {
+            // The journal may now end with a partial record, so do not append to it again.
+            forgetSavedState();
+            throw e;
+        }
+        journalLength += entries.size();
+        rememberSavedState(addressBook);
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        snapshotStorage.flushAddressBook();
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot and starts an empty journal on top of it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Compacting journal " + journal.getJournalFilePath() + " after " + journalLength + " records");
+        forgetSavedState();
+        snapshotStorage.saveAddressBook(addressBook, getAddressBookFilePath());
+        journal.reset(snapshotStorage.getDataFileHash().orElseThrow());
+        journalLength = 0;
+        rememberSavedState(addressBook);
+    }
+
+    private void rememberSavedState(ReadOnlyAddressBook addressBook) {
+        savedPersons = new ArrayList<>(addressBook.getPersonList());
+        savedCcas = new ArrayList<>(addressBook.getCcaList());
+    }
+
+    private void forgetSavedState() {
+        savedPersons = null;
+        savedCcas = null;
+    }
+
+}
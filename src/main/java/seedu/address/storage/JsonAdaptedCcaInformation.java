@@ -1,33 +1,45 @@
 package seedu.address.storage;
 
+import java.util.Map;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.cca.Attendance;
 import seedu.address.model.cca.Cca;
 import seedu.address.model.cca.CcaInformation;
+import seedu.address.model.cca.CcaName;
 import seedu.address.model.cca.SessionCount;
 import seedu.address.model.role.Role;
 
 /**
  * Jackson-friendly version of {@link CcaInformation}.
+ * The CCA is referred to by its name, and resolved against the CCAs of the address book.
+ * Data files written before format version 2 embed the whole CCA instead, which is still accepted.
  */
 class JsonAdaptedCcaInformation {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "CcaInformation's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_CCA = "CcaInformation refers to a CCA that does not exist: %s";
 
+    private final String ccaName;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final JsonAdaptedCca cca;
     private final JsonAdaptedRole role;
     private final int attendedSessions;
 
     /**
      * Constructs a {@code JsonAdaptedCcaInformation} with the given details.
+     * Only one of {@code ccaName} and {@code cca} needs to be given.
      */
     @JsonCreator
-    public JsonAdaptedCcaInformation(@JsonProperty("cca") JsonAdaptedCca cca,
+    public JsonAdaptedCcaInformation(@JsonProperty("ccaName") String ccaName,
+                                     @JsonProperty("cca") JsonAdaptedCca cca,
                                      @JsonProperty("role") JsonAdaptedRole role,
                                      @JsonProperty("attendedSessions") int attendedSessions) {
+        this.ccaName = ccaName;
         this.cca = cca;
         this.role = role;
         this.attendedSessions = attendedSessions;
@@ -37,7 +49,8 @@ class JsonAdaptedCcaInformation {
      * Converts a given {@code CcaInformation} into this class for Jackson use.
      */
     public JsonAdaptedCcaInformation(CcaInformation source) {
-        this.cca = new JsonAdaptedCca(source.getCca());
+        this.ccaName = source.getCcaName().fullCcaName;
+        this.cca = null;
         this.role = new JsonAdaptedRole(source.getRole());
         this.attendedSessions = source.getAttendance().getSessionsAttended().getSessionCount();
     }
@@ -45,17 +58,18 @@ class JsonAdaptedCcaInformation {
     /**
      * Converts this Jackson-friendly adapted CCA information object into the model's {@code CcaInformation} object.
      *
+     * @param ccas the CCAs of the address book, by name.
      * @throws IllegalValueException if there were any data constraints violated in the adapted CCA information.
      */
-    public CcaInformation toModelType() throws IllegalValueException {
-        if (cca == null) {
+    public CcaInformation toModelType(Map<CcaName, Cca> ccas) throws IllegalValueException {
+        if (ccaName == null && cca == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "CCA"));
         }
         if (role == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Role"));
         }
 
-        final Cca modelCca = cca.toModelType();
+        final Cca modelCca = ccaName != null ? resolveCca(ccas) : resolveEmbeddedCca(ccas);
         final Role modelRole = role.toModelType();
 
         final int derivedTotalSessions = modelCca.getTotalSessions().getSessionCount();
@@ -65,4 +79,24 @@ class JsonAdaptedCcaInformation {
 
         return new CcaInformation(modelCca, modelRole, modelAttendance);
     }
+
+    private Cca resolveCca(Map<CcaName, Cca> ccas) throws IllegalValueException {
+        if (!CcaName.isValidCcaName(ccaName)) {
+            throw new IllegalValueException(CcaName.MESSAGE_CONSTRAINTS);
+        }
+        Cca resolvedCca = ccas.get(new CcaName(ccaName));
+        if (resolvedCca == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_CCA, ccaName));
+        }
+        return resolvedCca;
+    }
+
+    /**
+     * Returns the CCA of the address book with the same name as the embedded CCA, so that persons share the
+     * address book's CCAs, or the embedded CCA itself if there is no such CCA.
+     */
+    private Cca resolveEmbeddedCca(Map<CcaName, Cca> ccas) throws IllegalValueException {
+        Cca embeddedCca = cca.toModelType();
+        return ccas.getOrDefault(embeddedCca.getCcaName(), embeddedCca);
+    }
 }
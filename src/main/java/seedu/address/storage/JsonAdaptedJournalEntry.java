@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ListSplice;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaName;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a {@link ListSplice} applied to either the person list or the CCA list of an
+ * address book. Each entry is one record of an {@link AddressBookJournal}.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String PERSONS_LIST = "persons";
+    public static final String CCAS_LIST = "ccas";
+    public static final String MESSAGE_UNKNOWN_LIST = "Journal entry refers to an unknown list: %s";
+    public static final String MESSAGE_INVALID_RANGE = "Journal entry does not match the data it is applied to: %s";
+
+    private final String list;
+    private final int index;
+    private final int removed;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<JsonAdaptedCca> ccas = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("list") String list, @JsonProperty("index") int index,
+                                   @JsonProperty("removed") int removed,
+                                   @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                   @JsonProperty("ccas") List<JsonAdaptedCca> ccas) {
+        this.list = list;
+        this.index = index;
+        this.removed = removed;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (ccas != null) {
+            this.ccas.addAll(ccas);
+        }
+    }
+
+    /**
+     * Converts a splice of the person list into this class for Jackson use.
+     */
+    public static JsonAdaptedJournalEntry ofPersons(ListSplice<Person> source) {
+        return new JsonAdaptedJournalEntry(PERSONS_LIST, source.getIndex(), source.getRemovedCount(),
+                source.getInsertedElements().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()),
+                null);
+    }
+
+    /**
+     * Converts a splice of the CCA list into this class for Jackson use.
+     */
+    public static JsonAdaptedJournalEntry ofCcas(ListSplice<Cca> source) {
+        return new JsonAdaptedJournalEntry(CCAS_LIST, source.getIndex(), source.getRemovedCount(), null,
+                source.getInsertedElements().stream().map(JsonAdaptedCca::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Replays this entry on the given mutable lists of persons and CCAs.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in this entry, or if this entry
+     *     does not fit the lists it is applied to.
+     */
+    public void applyTo(List<Person> personList, List<Cca> ccaList) throws IllegalValueException {
+        if (list == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_LIST, "null"));
+        }
+        try {
+            switch (list) {
+            case PERSONS_LIST:
+                Map<CcaName, Cca> ccasByName = new HashMap<>();
+                for (Cca cca : ccaList) {
+                    ccasByName.put(cca.getCcaName(), cca);
+                }
+                List<Person> insertedPersons = new ArrayList<>();
+                for (JsonAdaptedPerson person : persons) {
+                    insertedPersons.add(person.toModelType(ccasByName));
+                }
+                new ListSplice<>(index, removed, insertedPersons).applyTo(personList);
+                break;
+            case CCAS_LIST:
+                List<Cca> insertedCcas = new ArrayList<>();
+                for (JsonAdaptedCca cca : ccas) {
+                    insertedCcas.add(cca.toModelType());
+                }
+                new ListSplice<>(index, removed, insertedCcas).applyTo(ccaList);
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_LIST, list));
+            }
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RANGE, e.getMessage()));
+        }
+    }
+
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -10,7 +11,9 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.cca.Cca;
 import seedu.address.model.cca.CcaInformation;
+import seedu.address.model.cca.CcaName;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -23,6 +26,7 @@ import seedu.address.model.person.Phone;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String MESSAGE_DUPLICATE_CCA = "Person is in the same CCA more than once: %s";
 
     private final String name;
     private final String phone;
@@ -62,9 +66,10 @@ class JsonAdaptedPerson {
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
+     * @param ccas the CCAs of the address book, by name.
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
-    public Person toModelType() throws IllegalValueException {
+    public Person toModelType(Map<CcaName, Cca> ccas) throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -98,8 +103,13 @@ class JsonAdaptedPerson {
         final Address modelAddress = new Address(address);
 
         final Set<CcaInformation> modelCcaInformation = new HashSet<>();
+        final Set<CcaName> modelCcaNames = new HashSet<>();
         for (JsonAdaptedCcaInformation ccaInfo : ccaInformation) {
-            modelCcaInformation.add(ccaInfo.toModelType());
+            CcaInformation modelCcaInfo = ccaInfo.toModelType(ccas);
+            if (!modelCcaNames.add(modelCcaInfo.getCcaName())) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_CCA, modelCcaInfo.getCcaName()));
+            }
+            modelCcaInformation.add(modelCcaInfo);
         }
 
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelCcaInformation);
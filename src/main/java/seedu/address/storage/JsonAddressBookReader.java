@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaName;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book in the format of {@link JsonSerializableAddressBook} one record at a time, instead of binding
+ * the whole file first. Each cca is added to the {@code AddressBook} as soon as it has been read, while persons are
+ * converted in parallel batches of {@link ParallelPersonConverter#BATCH_SIZE} and added together at the end.
+ * Persons that come before the ccas, as in files written by older versions, are kept until the ccas have been read.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Data file does not hold an address book.";
+
+    private final JsonParser parser;
+    private final AddressBook addressBook = new AddressBook();
+    private final Map<CcaName, Cca> ccasByName = new HashMap<>();
+    private final List<JsonAdaptedPerson> unconvertedPersons = new ArrayList<>();
+    private final List<Person> persons = new ArrayList<>();
+    private boolean hasReadCcas;
+
+    private JsonAddressBookReader(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Reads the address book that {@code parser} is positioned at.
+     *
+     * @throws IOException if the input is not valid JSON or does not have the expected structure.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        requireNonNull(parser);
+        return new JsonAddressBookReader(parser).read();
+    }
+
+    private AddressBook read() throws IOException, IllegalValueException {
+        expectToken(parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            switch (fieldName) {
+            case "formatVersion":
+                expectToken(valueToken, JsonToken.VALUE_NUMBER_INT);
+                JsonSerializableAddressBook.checkFormatVersion(parser.getIntValue());
+                break;
+            case "ccas":
+                expectToken(valueToken, JsonToken.START_ARRAY);
+                readCcas();
+                break;
+            case "persons":
+                expectToken(valueToken, JsonToken.START_ARRAY);
+                readPersons();
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+        expectToken(parser.getCurrentToken(), JsonToken.END_OBJECT);
+
+        hasReadCcas = true;
+        convertPersons();
+        ParallelPersonConverter.setPersons(addressBook, persons);
+        return addressBook;
+    }
+
+    private void readCcas() throws IOException, IllegalValueException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            Cca cca = parser.readValueAs(JsonAdaptedCca.class).toModelType();
+            if (addressBook.hasCca(cca)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CCA);
+            }
+            addressBook.addCca(cca);
+            ccasByName.put(cca.getCcaName(), cca);
+        }
+        hasReadCcas = true;
+    }
+
+    private void readPersons() throws IOException, IllegalValueException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            unconvertedPersons.add(parser.readValueAs(JsonAdaptedPerson.class));
+            if (hasReadCcas && unconvertedPersons.size() >= ParallelPersonConverter.BATCH_SIZE) {
+                convertPersons();
+            }
+        }
+    }
+
+    private void convertPersons() throws IllegalValueException {
+        persons.addAll(ParallelPersonConverter.toModelType(unconvertedPersons, ccasByName));
+        unconvertedPersons.clear();
+    }
+
+    private void expectToken(JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+    }
+}
@@ -3,78 +3,59 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Path;
-import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.exceptions.DataLoadingException;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
  */
-public class JsonAddressBookStorage implements AddressBookStorage {
-
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+public class JsonAddressBookStorage extends FileAddressBookStorage {
 
-    private Path filePath;
+    private final boolean isCompact;
 
-    public JsonAddressBookStorage(Path filePath) {
-        this.filePath = filePath;
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the data file at {@code filePath}.
+     *
+     * @param isCompact whether to write the data file without line breaks and indentation, which makes it smaller
+     *     and faster to write but harder to edit by hand.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        super(filePath);
+        this.isCompact = isCompact;
     }
 
-    public Path getAddressBookFilePath() {
-        return filePath;
+    public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
     }
 
     @Override
-    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(filePath);
+    protected ReadOnlyAddressBook readAddressBookFile(InputStream in) throws IOException, IllegalValueException {
+        return readJson(in);
     }
 
     /**
-     * Similar to {@link #readAddressBook()}.
+     * Reads an address book from the JSON in {@code in}, which is left open.
      *
-     * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * @throws IOException if {@code in} could not be read or does not hold JSON in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
      */
-    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
-
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
+    static ReadOnlyAddressBook readJson(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            return JsonAddressBookReader.read(parser);
         }
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, filePath);
-    }
-
-    /**
-     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
-     *
-     * @param filePath location of the data. Cannot be null.
-     */
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        requireNonNull(addressBook);
-        requireNonNull(filePath);
-
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+    protected void writeAddressBookFile(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        JsonUtil.writeJson(new JsonSerializableAddressBook(addressBook), out, isCompact);
     }
 
 }
@@ -1,49 +1,65 @@
 package seedu.address.storage;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.cca.Cca;
-import seedu.address.model.person.Person;
+import seedu.address.model.cca.CcaName;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * CCAs are written before persons, so that the CCAs of each person are known by the time it is read.
+ * Since format version 2, persons refer to their CCAs by name instead of embedding them.
  */
 @JsonRootName(value = "addressbook")
+@JsonPropertyOrder({"formatVersion", "ccas", "persons"})
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_CCA = "CCA list contains duplicate cca(s).";
+    public static final String MESSAGE_UNSUPPORTED_FORMAT_VERSION =
+            "Data file was written in format version %d by a newer version of the app.";
+    public static final int FORMAT_VERSION = 2;
 
-    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
-    private final List<JsonAdaptedCca> ccas = new ArrayList<>();
+    private final int formatVersion;
+    private final List<JsonAdaptedPerson> persons;
+    private final List<JsonAdaptedCca> ccas;
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+    public JsonSerializableAddressBook(@JsonProperty("formatVersion") int formatVersion,
+                                       @JsonProperty("persons") List<JsonAdaptedPerson> persons,
                                        @JsonProperty("ccas") List<JsonAdaptedCca> ccas) {
-        this.persons.addAll(persons);
-        this.ccas.addAll(ccas);
+        this.formatVersion = formatVersion;
+        this.persons = new ArrayList<>(persons);
+        this.ccas = new ArrayList<>(ccas);
     }
 
     /**
      * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
+     * Each person and cca is only converted when Jackson reaches it, so that serializing the address book does not
+     * hold a converted copy of all of its data in memory.
      *
-     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     * @param source must not be changed while the created {@code JsonSerializableAddressBook} is in use.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
-        ccas.addAll(source.getCcaList().stream().map(JsonAdaptedCca::new).collect(Collectors.toList()));
+        formatVersion = FORMAT_VERSION;
+        persons = new MappedList<>(source.getPersonList(), JsonAdaptedPerson::new);
+        ccas = new MappedList<>(source.getCcaList(), JsonAdaptedCca::new);
     }
 
     /**
@@ -52,22 +68,53 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        checkFormatVersion(formatVersion);
         AddressBook addressBook = new AddressBook();
+        Map<CcaName, Cca> ccasByName = new HashMap<>();
         for (JsonAdaptedCca jsonAdaptedCca : ccas) {
             Cca cca = jsonAdaptedCca.toModelType();
             if (addressBook.hasCca(cca)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_CCA);
             }
             addressBook.addCca(cca);
+            ccasByName.put(cca.getCcaName(), cca);
         }
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
+        ParallelPersonConverter.setPersons(addressBook, ParallelPersonConverter.toModelType(persons, ccasByName));
         return addressBook;
     }
 
+    /**
+     * Checks that data files in the given format version can be read.
+     *
+     * @throws IllegalValueException if the format version is newer than this version of the app can read.
+     */
+    public static void checkFormatVersion(int formatVersion) throws IllegalValueException {
+        if (formatVersion > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_FORMAT_VERSION, formatVersion));
+        }
+    }
+
+    /**
+     * An unmodifiable view of a list that converts each element as it is accessed.
+     */
+    private static class MappedList<S, T> extends AbstractList<T> {
+        private final List<S> source;
+        private final Function<S, T> mapper;
+
+        MappedList(List<S> source, Function<S, T> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public T get(int index) {
+            return mapper.apply(source.get(index));
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+    }
+
 }
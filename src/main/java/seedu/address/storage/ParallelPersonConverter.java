@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaName;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Converts {@link JsonAdaptedPerson} records into the model's {@code Person} objects on all available cores, and
+ * adds the converted persons to an {@code AddressBook} in one bulk operation.
+ * Loading an address book this way scales with the number of cores, as validating each person is independent of
+ * the others, while the uniqueness of all persons is checked in a single hashed pass by {@link AddressBook}.
+ */
+class ParallelPersonConverter {
+
+    /**
+     * Number of records that loaders should collect before converting them, which bounds the number of records
+     * held in their adapted form.
+     */
+    public static final int BATCH_SIZE = 4096;
+
+    private ParallelPersonConverter() {}
+
+    /**
+     * Converts {@code jsonAdaptedPersons} into the model's {@code Person} objects, in the same order.
+     *
+     * @param ccas the CCAs of the address book, by name.
+     * @throws IllegalValueException if there were any data constraints violated in any of the records. If several
+     *     records are invalid, the error of the first of them is reported.
+     */
+    public static List<Person> toModelType(List<JsonAdaptedPerson> jsonAdaptedPersons, Map<CcaName, Cca> ccas)
+            throws IllegalValueException {
+        requireNonNull(jsonAdaptedPersons);
+        requireNonNull(ccas);
+        int size = jsonAdaptedPersons.size();
+        Person[] persons = new Person[size];
+        IllegalValueException[] errors = new IllegalValueException[size];
+
+        IntStream.range(0, size).parallel().forEach(i -> {
+            try {
+                persons[i] = jsonAdaptedPersons.get(i).toModelType(ccas);
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
+            }
+        });
+
+        for (IllegalValueException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+        return Arrays.asList(persons);
+    }
+
+    /**
+     * Replaces the persons of {@code addressBook} with {@code persons}.
+     *
+     * @throws IllegalValueException if {@code persons} contains duplicate persons, or persons whose CCAs are not in
+     *     {@code addressBook}.
+     */
+    public static void setPersons(AddressBook addressBook, List<Person> persons) throws IllegalValueException {
+        requireNonNull(addressBook);
+        requireNonNull(persons);
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+}
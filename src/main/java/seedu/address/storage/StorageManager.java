@@ -75,4 +75,10 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flushAddressBook() throws IOException {
+        logger.fine("Waiting for pending writes to data file: " + getAddressBookFilePath());
+        addressBookStorage.flushAddressBook();
+    }
+
 }
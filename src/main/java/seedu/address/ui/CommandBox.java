@@ -10,25 +10,48 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * <p>
+ * Text starting with {@link #SEARCH_MODE_PREFIX} is not a command, but a name to search for. The student list is
+ * filtered as it is typed, and stays filtered when it is entered.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String SEARCH_MODE_PREFIX = "/";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final NameSearcher nameSearcher;
+
+    /** True while the student list is filtered by the text being typed, which must be undone if it is erased. */
+    private boolean isSearching;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code NameSearcher}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, NameSearcher nameSearcher) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.nameSearcher = nameSearcher;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> handleTextChanged(newText));
+    }
+
+    /**
+     * Searches for the name typed so far if the command box is in search mode.
+     */
+    private void handleTextChanged(String text) {
+        if (text.startsWith(SEARCH_MODE_PREFIX)) {
+            isSearching = true;
+            nameSearcher.search(text.substring(SEARCH_MODE_PREFIX.length()));
+        } else if (isSearching) {
+            isSearching = false;
+            nameSearcher.search("");
+        }
     }
 
     /**
@@ -40,6 +63,12 @@ public class CommandBox extends UiPart<Region> {
         if (commandText.equals("")) {
             return;
         }
+        if (commandText.startsWith(SEARCH_MODE_PREFIX)) {
+            // keeps the list filtered by the entered name
+            isSearching = false;
+            commandTextField.setText("");
+            return;
+        }
 
         try {
             commandExecutor.execute(commandText);
@@ -82,4 +111,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can filter the student list by name.
+     */
+    @FunctionalInterface
+    public interface NameSearcher {
+        /**
+         * Filters the student list by {@code query}, or shows all students if it is blank.
+         *
+         * @see seedu.address.logic.Logic#searchPersonsByName(String)
+         */
+        void search(String query);
+    }
+
 }
@@ -4,6 +4,8 @@ import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonType;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
@@ -23,6 +25,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_EXIT_CANCELLED = "%1$s\nThe app was not closed, so that your changes are "
+            + "not lost. Fix the problem above and exit again.";
+    public static final String MESSAGE_QUIT_WITHOUT_SAVING = "Your changes could not be saved. Quit anyway?";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
@@ -70,6 +76,13 @@ public class MainWindow extends UiPart<Stage> {
         setAccelerators();
 
         helpWindow = new HelpWindow();
+
+        // Closing the window exits the app, so it must not lose changes either
+        primaryStage.setOnCloseRequest(event -> {
+            if (!handleExitIfSaved()) {
+                event.consume();
+            }
+        });
     }
 
     public Stage getPrimaryStage() {
@@ -126,7 +139,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::searchPersonsByName);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -159,15 +172,50 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Closes the application.
+     * Closes the application, unless the address book cannot be saved and the user chooses not to quit anyway.
      */
     @FXML
     private void handleExit() {
+        handleExitIfSaved();
+    }
+
+    /**
+     * Closes the application once all changes to the address book have been written to the data file.
+     * If they cannot be written, the user is asked whether to quit anyway, and the application stays open unless
+     * they do.
+     *
+     * @return true if the application was closed.
+     */
+    private boolean handleExitIfSaved() {
+        try {
+            logic.flushAddressBook();
+        } catch (CommandException e) {
+            logger.warning("The address book could not be saved before closing: " + e.getMessage());
+            if (!confirmQuitWithoutSaving(e.getMessage())) {
+                resultDisplay.setFeedbackToUser(String.format(MESSAGE_EXIT_CANCELLED, e.getMessage()));
+                return false;
+            }
+        }
+
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
         helpWindow.hide();
         primaryStage.hide();
+        return true;
+    }
+
+    /**
+     * Asks the user whether to quit although the address book could not be saved because of {@code failure}.
+     * Returns true if they choose to quit.
+     */
+    private boolean confirmQuitWithoutSaving(String failure) {
+        Alert alert = new Alert(Alert.AlertType.CONFIRMATION, failure, ButtonType.OK, ButtonType.CANCEL);
+        alert.getDialogPane().getStylesheets().add("view/DarkTheme.css");
+        alert.initOwner(primaryStage);
+        alert.setTitle("Changes not saved");
+        alert.setHeaderText(MESSAGE_QUIT_WITHOUT_SAVING);
+        return alert.showAndWait().filter(ButtonType.OK::equals).isPresent();
     }
 
     public PersonListPanel getPersonListPanel() {
@@ -39,10 +39,40 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptParameters_success() {
+        parametersStub.namedParameters.put("script", "roster.txt");
+        parametersStub.namedParameters.put("save-every", "500");
+        expected.setScriptPath(Paths.get("roster.txt"));
+        expected.setCommandsPerSave(500);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidCommandsPerSave_savesOnceScriptEnds() {
+        parametersStub.namedParameters.put("script", "-");
+        parametersStub.namedParameters.put("save-every", "0");
+        expected.setScriptPath(AppParameters.STANDARD_INPUT);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("save-every", "many");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(AppParameters.STANDARD_INPUT);
+        String[] args = {"--config=config.json", "--script=-", "unnamed", "--=value"};
+        assertEquals(expected, AppParameters.parse(args));
+        assertEquals(new AppParameters(), AppParameters.parse(new String[0]));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", scriptPath=" + appParameters.getScriptPath() + ", commandsPerSave=null}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +96,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("script.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different commands per save -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setCommandsPerSave(1);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -0,0 +1,53 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_plainFields_success() throws Exception {
+        CsvReader csvReader = new CsvReader(new StringReader("a,b,c\r\n,d,\n\ne"));
+        assertEquals(Optional.of(List.of("a", "b", "c")), csvReader.readRecord());
+        assertEquals(1, csvReader.getRecordLineNumber());
+        assertEquals(Optional.of(List.of("", "d", "")), csvReader.readRecord());
+        assertEquals(Optional.of(List.of("")), csvReader.readRecord());
+        assertEquals(Optional.of(List.of("e")), csvReader.readRecord());
+        assertEquals(4, csvReader.getRecordLineNumber());
+        assertEquals(Optional.empty(), csvReader.readRecord());
+        assertEquals(Optional.empty(), csvReader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_success() throws Exception {
+        CsvReader csvReader = new CsvReader(new StringReader("\"a,b\",\"say \"\"hi\"\"\",\"\"\r\n"
+                + "\"two\nlines\",x\n"
+                + "y\n"));
+        assertEquals(Optional.of(List.of("a,b", "say \"hi\"", "")), csvReader.readRecord());
+        assertEquals(Optional.of(List.of("two\nlines", "x")), csvReader.readRecord());
+        assertEquals(2, csvReader.getRecordLineNumber());
+        assertEquals(Optional.of(List.of("y")), csvReader.readRecord());
+        assertEquals(4, csvReader.getRecordLineNumber());
+        assertEquals(Optional.empty(), csvReader.readRecord());
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIoException() throws Exception {
+        CsvReader csvReader = new CsvReader(new StringReader("a\n\"b,c\n"));
+        assertEquals(Optional.of(List.of("a")), csvReader.readRecord());
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_UNCLOSED_QUOTE, 2), csvReader::readRecord);
+    }
+
+    @Test
+    public void readRecord_textAfterQuote_throwsIoException() {
+        CsvReader csvReader = new CsvReader(new StringReader("\"a\"b\n"));
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_TEXT_AFTER_QUOTE, 1), csvReader::readRecord);
+    }
+}
@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,53 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacedWithoutLeftovers() throws Exception {
+        Path file = testFolder.resolve("sub").resolve("file.txt");
+        FileUtil.writeToFile(file, "first");
+        FileUtil.writeToFile(file, "second");
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void backUpFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Path backupFile = testFolder.resolve("file.txt.bak");
+
+        // missing file -> no backup
+        FileUtil.backUpFile(file, backupFile);
+        assertFalse(FileUtil.isFileExists(backupFile));
+
+        // backup keeps the old content after the file is written again
+        FileUtil.writeToFile(file, "old");
+        FileUtil.backUpFile(file, backupFile);
+        FileUtil.writeToFile(file, "new");
+        assertEquals("old", FileUtil.readFromFile(backupFile));
+
+        // backup is replaced by the next one
+        FileUtil.backUpFile(file, backupFile);
+        assertEquals("new", FileUtil.readFromFile(backupFile));
+    }
+
+    @Test
+    public void openInputStream() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        String content = "\u00dcn\u00efc\u00f6d\u00e9 content\nspanning lines";
+        FileUtil.writeToFile(file, content);
+
+        // read through heap buffers
+        try (InputStream in = FileUtil.openInputStream(file)) {
+            assertEquals(content, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        // mapped into memory where supported
+        try (InputStream in = FileUtil.openInputStream(file, 0)) {
+            assertEquals(content, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
 }
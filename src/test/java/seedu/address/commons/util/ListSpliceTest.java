@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ListSpliceTest {
+
+    private static final String A = new String("a");
+    private static final String B = new String("b");
+    private static final String C = new String("c");
+    private static final String D = new String("d");
+
+    @Test
+    public void between_sameElements_noSplices() {
+        assertTrue(ListSplice.between(List.of(A, B, C), List.of(A, B, C)).isEmpty());
+    }
+
+    @Test
+    public void between_elementsReplaced_oneSplicePerRun() {
+        List<ListSplice<String>> splices = ListSplice.between(List.of(A, B, C, D), List.of(D, B, A, D));
+        assertEquals(List.of(new ListSplice<>(0, 1, List.of(D)), new ListSplice<>(2, 1, List.of(A))), splices);
+    }
+
+    @Test
+    public void between_elementsAddedAndRemoved_singleSplice() {
+        assertEquals(List.of(new ListSplice<>(3, 0, List.of(D))),
+                ListSplice.between(List.of(A, B, C), List.of(A, B, C, D)));
+        assertEquals(List.of(new ListSplice<>(1, 1, List.of())),
+                ListSplice.between(List.of(A, B, C), List.of(A, C)));
+        assertEquals(List.of(new ListSplice<>(0, 3, List.of(C, D))),
+                ListSplice.between(List.of(A, B, C), List.of(C, D)));
+    }
+
+    @Test
+    public void between_equalButNotSameElements_replaced() {
+        String otherA = new String("a");
+        assertEquals(List.of(new ListSplice<>(0, 1, List.of(otherA))),
+                ListSplice.between(List.of(A, B), List.of(otherA, B)));
+    }
+
+    @Test
+    public void applyTo_splicesFromBetween_producesAfterList() {
+        List<String> before = List.of(A, B, C, D);
+        List<String> after = List.of(B, D, A, C, C);
+        List<String> patched = new ArrayList<>(before);
+        for (ListSplice<String> splice : ListSplice.<String>between(before, after)) {
+            splice.applyTo(patched);
+        }
+        assertEquals(after, patched);
+    }
+
+    @Test
+    public void applyTo_rangeOutsideList_throwsIndexOutOfBoundsException() {
+        ListSplice<String> splice = new ListSplice<>(2, 2, List.of(A));
+        assertThrows(IndexOutOfBoundsException.class, () -> splice.applyTo(new ArrayList<>(List.of(A, B, C))));
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class StagedListTest {
+
+    private final List<String> added = new ArrayList<>();
+    private final List<String> removed = new ArrayList<>();
+    private final StagedList<String> stagedList = new StagedList<>(added::add, removed::add);
+    private final List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        stagedList.asUnmodifiableObservableList().addListener((ListChangeListener<String>) changes::add);
+    }
+
+    @Test
+    public void splice_noBatch_publishedStraightAway() {
+        stagedList.splice(new ListSplice<>(0, 0, List.of("a", "b")));
+        stagedList.splice(new ListSplice<>(1, 1, List.of("c")));
+
+        assertEquals(List.of("a", "c"), stagedList.asUnmodifiableList());
+        assertEquals(List.of("a", "c"), stagedList.asUnmodifiableObservableList());
+        assertEquals(2, changes.size());
+        assertEquals(List.of("a", "b", "c"), added);
+        assertEquals(List.of("b"), removed);
+    }
+
+    @Test
+    public void commitBatch_severalSplices_publishedAsOneChange() {
+        stagedList.splice(new ListSplice<>(0, 0, List.of("a", "b", "c")));
+        changes.clear();
+
+        stagedList.beginBatch();
+        stagedList.splice(new ListSplice<>(0, 1, List.of("d")));
+        stagedList.splice(new ListSplice<>(2, 1, List.of()));
+        assertEquals(List.of("d", "b"), stagedList.asUnmodifiableList());
+        assertEquals(List.of("a", "b", "c"), stagedList.asUnmodifiableObservableList());
+        assertTrue(changes.isEmpty());
+
+        stagedList.commitBatch();
+        assertEquals(List.of("d", "b"), stagedList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void commitBatch_noSplices_nothingPublished() {
+        stagedList.beginBatch();
+        stagedList.commitBatch();
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void rollbackBatch_severalSplices_undoneWithoutPublishing() {
+        stagedList.splice(new ListSplice<>(0, 0, List.of("a", "b", "c")));
+        changes.clear();
+        added.clear();
+
+        stagedList.beginBatch();
+        stagedList.splice(new ListSplice<>(0, 1, List.of("d")));
+        stagedList.splice(new ListSplice<>(1, 2, List.of("e")));
+        stagedList.rollbackBatch();
+
+        assertEquals(List.of("a", "b", "c"), stagedList.asUnmodifiableList());
+        assertEquals(List.of("a", "b", "c"), stagedList.asUnmodifiableObservableList());
+        assertTrue(changes.isEmpty());
+        assertEquals(List.of("d", "e", "b", "c", "a"), added);
+        assertEquals(List.of("a", "b", "c", "e", "d"), removed);
+    }
+
+    @Test
+    public void splice_rangeOutsideList_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> stagedList.splice(new ListSplice<>(0, 1, List.of())));
+    }
+
+    @Test
+    public void beginBatch_batchInProgress_throwsIllegalStateException() {
+        stagedList.beginBatch();
+        assertThrows(IllegalStateException.class, stagedList::beginBatch);
+    }
+
+    @Test
+    public void commitBatch_noBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, stagedList::commitBatch);
+        assertThrows(IllegalStateException.class, stagedList::rollbackBatch);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.TableWriter.Format;
+
+public class TableWriterTest {
+    private static final List<String> COLUMNS = List.of("name", "note", "count");
+
+    private final StringWriter writer = new StringWriter();
+
+    @Test
+    public void fromFilePath() {
+        assertEquals(Optional.of(Format.CSV), Format.fromFilePath(Paths.get("reports", "week1.CSV")));
+        assertEquals(Optional.of(Format.NDJSON), Format.fromFilePath(Paths.get("week1.ndjson")));
+        assertEquals(Optional.of(Format.NDJSON), Format.fromFilePath(Paths.get("week1.jsonl")));
+        assertEquals(Optional.empty(), Format.fromFilePath(Paths.get("week1.json")));
+        assertEquals(Optional.empty(), Format.fromFilePath(Paths.get("csv")));
+    }
+
+    @Test
+    public void writeRow_csv_valuesEscapedAsCsvReaderExpects() throws Exception {
+        TableWriter tableWriter = Format.CSV.createWriter(writer, COLUMNS);
+        tableWriter.writeRow(List.of("Alice", "says \"hi\", then\nleaves", 3));
+        tableWriter.writeRow(List.of("Bob", "", 0));
+        tableWriter.flush();
+
+        assertEquals("name,note,count\nAlice,\"says \"\"hi\"\", then\nleaves\",3\nBob,,0\n", writer.toString());
+
+        CsvReader csvReader = new CsvReader(new StringReader(writer.toString()));
+        assertEquals(Optional.of(COLUMNS), csvReader.readRecord());
+        assertEquals(Optional.of(List.of("Alice", "says \"hi\", then\nleaves", "3")), csvReader.readRecord());
+    }
+
+    @Test
+    public void writeRow_ndjson_objectPerLine() throws Exception {
+        TableWriter tableWriter = Format.NDJSON.createWriter(writer, COLUMNS);
+        tableWriter.writeRow(List.of("Alice", "says \"hi\"\n", 3));
+        tableWriter.writeRow(List.of("Bob", "", 0));
+        tableWriter.flush();
+
+        assertEquals("{\"name\":\"Alice\",\"note\":\"says \\\"hi\\\"\\n\",\"count\":3}\n"
+                + "{\"name\":\"Bob\",\"note\":\"\",\"count\":0}\n", writer.toString());
+    }
+
+    @Test
+    public void writeRow_wrongValueCount_throwsIllegalArgumentException() throws Exception {
+        TableWriter tableWriter = Format.CSV.createWriter(writer, COLUMNS);
+        assertThrows(IllegalArgumentException.class, () -> tableWriter.writeRow(List.of("Alice")));
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class IncrementalNameSearchTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private IncrementalNameSearch nameSearch = new IncrementalNameSearch(model);
+
+    @Test
+    public void search_typedCharacterByCharacter_resultsNarrowed() {
+        nameSearch.search("m");
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+        nameSearch.search("mei");
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+        nameSearch.search("mei D");
+        assertEquals(Arrays.asList(DANIEL), model.getFilteredPersonList());
+
+        // erasing characters widens the results again
+        nameSearch.search("me");
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_severalWords_everyWordMatched() {
+        nameSearch.search("mei b");
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
+        nameSearch.search("mei ben");
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
+
+        // a query that does not refine the previous one is checked against all persons again
+        nameSearch.search("e m");
+        assertEquals(Arrays.asList(ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_blankQuery_allPersonsShown() {
+        nameSearch.search("alice");
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
+        nameSearch.search("  ");
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_addressBookChangedBetweenQueries_changesFound() {
+        nameSearch.search("al");
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
+        Person alex = new PersonBuilder().withName("Alex Yeoh").build();
+        model.addPerson(alex);
+        nameSearch.search("ale");
+        assertEquals(Arrays.asList(alex), model.getFilteredPersonList());
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.logic;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CreateStudentCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AsyncAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class ScriptRunnerTest {
+    private static final String CREATE_AMY = CreateStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+    private static final String CREATE_BOB = CreateStudentCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB
+            + EMAIL_DESC_BOB + ADDRESS_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Model model = new ModelManager();
+    private JsonAddressBookStorage addressBookStorage;
+    private ScriptRunner scriptRunner;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        Logic logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage),
+                Integer.MAX_VALUE);
+        scriptRunner = new ScriptRunner(logic);
+    }
+
+    @Test
+    public void run_scriptWithFailures_failuresReportedAndRestExecuted() throws Exception {
+        String script = "# roster\n"
+                + CREATE_AMY + "\n"
+                + "\n"
+                + "unknown_command\n"
+                + "  " + CREATE_BOB + "  \n";
+
+        assertEquals(1, run(script));
+
+        AddressBook expectedAddressBook = new AddressBook();
+        expectedAddressBook.addPerson(new PersonBuilder(AMY).build());
+        expectedAddressBook.addPerson(new PersonBuilder(BOB).build());
+        assertEquals(expectedAddressBook, model.getAddressBook());
+        assertEquals(expectedAddressBook, addressBookStorage.readAddressBook().get());
+        assertEquals(String.format(ScriptRunner.MESSAGE_LINE_FAILED, 4, MESSAGE_UNKNOWN_COMMAND)
+                + System.lineSeparator(), err.toString(UTF_8));
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        String script = ListCommand.COMMAND_WORD + "\n"
+                + ExitCommand.COMMAND_WORD + "\n"
+                + CREATE_AMY + "\n";
+
+        assertEquals(0, run(script));
+
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator()
+                + ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(), out.toString(UTF_8));
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertFalse(Files.exists(addressBookStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void run_addressBookNotWritten_saveFailureReported() throws Exception {
+        IOException saveFailure = new IOException("dummy IO exception");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(temporaryFolder.resolve("failing.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw saveFailure;
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        scriptRunner = new ScriptRunner(new LogicManager(model,
+                new StorageManager(new AsyncAddressBookStorage(failingStorage), userPrefsStorage)));
+
+        // the command succeeds as the save is only queued, but the script fails as the save is never written
+        assertEquals(1, run(CREATE_AMY + "\n"));
+        assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, saveFailure.getMessage())
+                + System.lineSeparator(), err.toString(UTF_8));
+    }
+
+    private int run(String script) throws Exception {
+        return scriptRunner.run(new BufferedReader(new StringReader(script)), new PrintStream(out, true, UTF_8),
+                new PrintStream(err, true, UTF_8));
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCcas.ACTING;
+import static seedu.address.testutil.TypicalCcas.BASKETBALL;
+import static seedu.address.testutil.TypicalCcas.CCA_NAME_BASKETBALL;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.TableWriter.Format;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.cca.CcaName;
+import seedu.address.model.person.Person;
+import seedu.address.model.role.Role;
+import seedu.address.testutil.TypicalCcas;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_studentsToCsv_filteredStudentsExported() throws Exception {
+        model.updateFilteredPersonList(ALICE::equals);
+        expectedModel.updateFilteredPersonList(ALICE::equals);
+        Path filePath = temporaryFolder.resolve("students.csv");
+
+        assertCommandSuccess(new ExportCommand(filePath, Format.CSV), model,
+                String.format(ExportCommand.MESSAGE_STUDENTS_SUCCESS, 1, filePath), expectedModel);
+        assertEquals("name,phone,email,address,ccas\n"
+                + "Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\","
+                + "Acting:Vice-President;Basketball\n", Files.readString(filePath));
+
+        // the exported students can be imported again, without their attendance
+        AddressBook addressBookWithCcas = new AddressBook();
+        addressBookWithCcas.setCcas(TypicalCcas.getTypicalCcas());
+        Model importingModel = new ModelManager(addressBookWithCcas, new UserPrefs());
+        new ImportCommand(filePath).execute(importingModel);
+        Person expectedAlice = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                Set.of()).addCca(ACTING).addRole(ACTING, new Role("Vice-President")).addCca(BASKETBALL);
+        assertEquals(List.of(expectedAlice), importingModel.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_attendanceOfCcaToNdjson_membersExported() throws Exception {
+        Path filePath = temporaryFolder.resolve("basketball.ndjson");
+
+        assertCommandSuccess(new ExportCommand(filePath, Format.NDJSON, List.of(CCA_NAME_BASKETBALL)), model,
+                String.format(ExportCommand.MESSAGE_ATTENDANCE_SUCCESS, 2, 1, filePath), expectedModel);
+        assertEquals("{\"cca\":\"Basketball\",\"name\":\"Alice Pauline\",\"role\":\"Member\",\"attended\":10,"
+                + "\"total\":15}\n"
+                + "{\"cca\":\"Basketball\",\"name\":\"George Best\",\"role\":\"Member\",\"attended\":11,"
+                + "\"total\":15}\n", Files.readString(filePath));
+    }
+
+    @Test
+    public void execute_attendanceOfAllCcas_allMembersExported() throws Exception {
+        Path filePath = temporaryFolder.resolve("reports").resolve("attendance.csv");
+        int memberCount = model.getAddressBook().getPersonList().stream()
+                .mapToInt(person -> person.getCcaInformations().size())
+                .sum();
+
+        assertCommandSuccess(new ExportCommand(filePath, Format.CSV, List.of()), model,
+                String.format(ExportCommand.MESSAGE_ATTENDANCE_SUCCESS, memberCount, model.getCcaList().size(),
+                        filePath), expectedModel);
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(String.join(",", ExportCommand.ATTENDANCE_COLUMNS), lines.get(0));
+        assertEquals(memberCount + 1, lines.size());
+    }
+
+    @Test
+    public void execute_unknownCca_throwsCommandException() {
+        Path filePath = temporaryFolder.resolve("attendance.csv");
+        assertCommandFailure(new ExportCommand(filePath, Format.CSV, List.of(new CcaName("Chess"))), model,
+                Messages.MESSAGE_CCA_NOT_FOUND);
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void execute_unwritableFile_throwsCommandException() throws Exception {
+        Path directoryPath = Files.createDirectory(temporaryFolder.resolve("students.csv"));
+        Files.createFile(directoryPath.resolve("existing"));
+        assertThrows(CommandException.class, () -> new ExportCommand(directoryPath, Format.CSV).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        Path filePath = Paths.get("report.csv");
+        ExportCommand exportStudentsCommand = new ExportCommand(filePath, Format.CSV);
+        ExportCommand exportAttendanceCommand = new ExportCommand(filePath, Format.CSV, List.of(CCA_NAME_BASKETBALL));
+
+        // same object -> returns true
+        assertTrue(exportStudentsCommand.equals(exportStudentsCommand));
+
+        // same values -> returns true
+        assertTrue(exportAttendanceCommand.equals(new ExportCommand(filePath, Format.CSV,
+                List.of(CCA_NAME_BASKETBALL))));
+
+        // different types -> returns false
+        assertFalse(exportStudentsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportStudentsCommand.equals(null));
+
+        // different report -> returns false
+        assertFalse(exportStudentsCommand.equals(new ExportCommand(filePath, Format.CSV, List.of())));
+
+        // different format -> returns false
+        assertFalse(exportStudentsCommand.equals(new ExportCommand(filePath, Format.NDJSON)));
+
+        // different CCAs -> returns false
+        assertFalse(exportAttendanceCommand.equals(new ExportCommand(filePath, Format.CSV,
+                List.of(TypicalCcas.CCA_NAME_TENNIS))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Paths.get("report.csv");
+        List<CcaName> ccaNames = List.of(CCA_NAME_BASKETBALL);
+        String expected = ExportCommand.class.getCanonicalName() + "{report=" + ExportCommand.Report.ATTENDANCE
+                + ", filePath=" + filePath + ", format=" + Format.CSV + ", ccaNames=" + ccaNames + "}";
+        assertEquals(expected, new ExportCommand(filePath, Format.CSV, ccaNames).toString());
+    }
+}
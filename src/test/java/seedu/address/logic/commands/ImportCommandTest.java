@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCcas.BASKETBALL;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.parser.StudentCsvParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+
+public class ImportCommandTest {
+    private static final String HEADER = "name,phone,email,address,ccas\n";
+    private static final String AMY_ROW = "Amy Bee,11111111,amy@example.com,\"Block 312, Amy Street 1\",\n";
+    private static final String BOB_ROW = "Bob Choo,22222222,bob@example.com,\"Block 123, Bobby Street 3\","
+            + "Basketball\n";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validFile_studentsAdded() throws Exception {
+        Path filePath = writeCsv(HEADER + AMY_ROW + BOB_ROW);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPersons(List.of(AMY, BOB.addCca(BASKETBALL)));
+        assertCommandSuccess(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath), expectedModel);
+
+        // the whole import is undone as one change
+        model.commitAddressBook();
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_invalidRows_nothingAdded() throws Exception {
+        String aliceRow = "Alice Pauline,94351253,alice@example.com,Street,\n";
+        String amyAgainRow = "Amy Lee,33333333,amy@example.com,Street,\n";
+        Path filePath = writeCsv(HEADER + AMY_ROW + aliceRow + "R@chel,3,rachel@example.com,Street,\n"
+                + amyAgainRow);
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_INVALID_ROWS, 3, filePath)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 3, Messages.MESSAGE_DUPLICATE_PERSON)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, Name.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 5, Messages.MESSAGE_DUPLICATE_PERSON);
+        assertCommandFailure(new ImportCommand(filePath), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_manyInvalidRows_firstErrorsShown() throws Exception {
+        int invalidRowCount = ImportCommand.MAX_ROW_ERRORS_SHOWN + 2;
+        Path filePath = writeCsv(HEADER + "R@chel,3,rachel@example.com,Street,\n".repeat(invalidRowCount));
+
+        StringBuilder expectedMessage = new StringBuilder(String.format(ImportCommand.MESSAGE_INVALID_ROWS,
+                invalidRowCount, filePath));
+        for (int lineNumber = 2; lineNumber < ImportCommand.MAX_ROW_ERRORS_SHOWN + 2; lineNumber++) {
+            expectedMessage.append('\n')
+                    .append(String.format(ImportCommand.MESSAGE_ROW_ERROR, lineNumber, Name.MESSAGE_CONSTRAINTS));
+        }
+        expectedMessage.append('\n').append(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 2));
+        assertCommandFailure(new ImportCommand(filePath), model, expectedMessage.toString());
+    }
+
+    @Test
+    public void execute_invalidFile_throwsCommandException() throws Exception {
+        Path missingFilePath = temporaryFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(missingFilePath), model,
+                String.format(ImportCommand.MESSAGE_CANNOT_READ_FILE, missingFilePath, missingFilePath));
+
+        Path emptyFilePath = writeCsv("");
+        assertCommandFailure(new ImportCommand(emptyFilePath), model, StudentCsvParser.MESSAGE_MISSING_HEADER);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importRosterCommand = new ImportCommand(Paths.get("roster.csv"));
+
+        // same object -> returns true
+        assertTrue(importRosterCommand.equals(importRosterCommand));
+
+        // same values -> returns true
+        assertTrue(importRosterCommand.equals(new ImportCommand(Paths.get("roster.csv"))));
+
+        // different types -> returns false
+        assertFalse(importRosterCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importRosterCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importRosterCommand.equals(new ImportCommand(Paths.get("other.csv"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Paths.get("roster.csv");
+        String expected = ImportCommand.class.getCanonicalName() + "{filePath=" + filePath + "}";
+        assertEquals(expected, new ImportCommand(filePath).toString());
+    }
+
+    private Path writeCsv(String csv) throws Exception {
+        Path filePath = temporaryFolder.resolve("roster.csv");
+        Files.writeString(filePath, csv);
+        return filePath;
+    }
+}
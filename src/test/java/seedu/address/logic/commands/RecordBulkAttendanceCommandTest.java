@@ -0,0 +1,123 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CCA_NAME_BASKETBALL;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CCA_NAME_SWIMMING;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCcas.BASKETBALL;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.cca.Amount;
+import seedu.address.model.cca.CcaName;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code RecordBulkAttendanceCommand}.
+ */
+public class RecordBulkAttendanceCommandTest {
+
+    private static final CcaName BASKETBALL_NAME = new CcaName(VALID_CCA_NAME_BASKETBALL);
+    private static final Index INDEX_GEORGE = Index.fromOneBased(7);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validIndexes_attendanceRecordedForAll() {
+        Amount amount = new Amount(2);
+        RecordBulkAttendanceCommand command = new RecordBulkAttendanceCommand(
+                Arrays.asList(INDEX_FIRST_PERSON, INDEX_GEORGE), BASKETBALL_NAME, amount);
+
+        String expectedMessage = String.format(RecordBulkAttendanceCommand.MESSAGE_SUCCESS, 2,
+                Messages.format(BASKETBALL_NAME), Messages.format(amount));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(ALICE, ALICE.attend(BASKETBALL, amount));
+        expectedModel.setPerson(GEORGE, GEORGE.attend(BASKETBALL, amount));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allMembers_attendanceRecordedForMembersOnly() {
+        Amount amount = new Amount(1);
+        RecordBulkAttendanceCommand command = new RecordBulkAttendanceCommand(BASKETBALL_NAME, amount);
+
+        String expectedMessage = String.format(RecordBulkAttendanceCommand.MESSAGE_SUCCESS, 2,
+                Messages.format(BASKETBALL_NAME), Messages.format(amount));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(ALICE, ALICE.attend(BASKETBALL, amount));
+        expectedModel.setPerson(GEORGE, GEORGE.attend(BASKETBALL, amount));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_studentNotInCca_nothingRecorded() {
+        RecordBulkAttendanceCommand command = new RecordBulkAttendanceCommand(
+                Arrays.asList(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), BASKETBALL_NAME, new Amount(1));
+        String expectedMessage = String.format(RecordBulkAttendanceCommand.MESSAGE_STUDENT_NOT_IN_CCA,
+                Messages.format(BENSON.getName()), Messages.format(BASKETBALL_NAME));
+        assertCommandFailure(command, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_exceedingAmount_nothingRecorded() {
+        // Alice has attended 10 and George 11 of the 15 sessions
+        RecordBulkAttendanceCommand command = new RecordBulkAttendanceCommand(BASKETBALL_NAME, new Amount(5));
+        String expectedMessage = String.format(RecordBulkAttendanceCommand.MESSAGE_EXCEEDING_AMOUNT,
+                Messages.format(GEORGE.getName()));
+        assertCommandFailure(command, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        RecordBulkAttendanceCommand command = new RecordBulkAttendanceCommand(
+                Arrays.asList(INDEX_FIRST_PERSON, outOfBoundIndex), BASKETBALL_NAME, new Amount(1));
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_ccaNotFound_throwsCommandException() {
+        RecordBulkAttendanceCommand command = new RecordBulkAttendanceCommand(new CcaName("Chess"), new Amount(1));
+        assertCommandFailure(command, model, Messages.MESSAGE_CCA_NOT_FOUND);
+    }
+
+    @Test
+    public void equals() {
+        List<Index> indexes = Arrays.asList(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+        RecordBulkAttendanceCommand command = new RecordBulkAttendanceCommand(indexes, BASKETBALL_NAME, new Amount(1));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new RecordBulkAttendanceCommand(indexes, BASKETBALL_NAME, new Amount(1))));
+
+        // all members instead of indexes -> returns false
+        assertFalse(command.equals(new RecordBulkAttendanceCommand(BASKETBALL_NAME, new Amount(1))));
+
+        // different cca -> returns false
+        assertFalse(command.equals(new RecordBulkAttendanceCommand(indexes, new CcaName(VALID_CCA_NAME_SWIMMING),
+                new Amount(1))));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+    }
+}
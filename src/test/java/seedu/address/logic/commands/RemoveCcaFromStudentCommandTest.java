@@ -12,6 +12,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Collection;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -49,7 +50,7 @@ public class RemoveCcaFromStudentCommandTest {
     @Test
     public void execute_validInputUnfilteredList_success() {
         // Build the expected person: copy original person and remove Basketball CCA info
-        Set<CcaInformation> originalCcas = personToEdit.getCcaInformations();
+        Collection<CcaInformation> originalCcas = personToEdit.getCcaInformations();
         Set<CcaInformation> expectedCcas = originalCcas.stream()
                 .filter(info -> !info.getCca().getCcaName().equals(CCA_NAME_BASKETBALL))
                 .collect(Collectors.toSet());
@@ -72,7 +73,7 @@ public class RemoveCcaFromStudentCommandTest {
         showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON); // Filter list to show only the person to edit
 
         // Build the expected person and model as in the unfiltered test
-        Set<CcaInformation> originalCcas = personToEdit.getCcaInformations();
+        Collection<CcaInformation> originalCcas = personToEdit.getCcaInformations();
         Set<CcaInformation> expectedCcas = originalCcas.stream()
                 .filter(info -> !info.getCca().getCcaName().equals(CCA_NAME_BASKETBALL))
                 .collect(Collectors.toSet());
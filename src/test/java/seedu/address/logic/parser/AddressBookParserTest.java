@@ -8,12 +8,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_CCA;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.TableWriter;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CreateCcaCommand;
 import seedu.address.logic.commands.CreateStudentCommand;
@@ -21,11 +23,18 @@ import seedu.address.logic.commands.DeleteCcaCommand;
 import seedu.address.logic.commands.DeleteStudentCommand;
 import seedu.address.logic.commands.EditStudentCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RecordBulkAttendanceCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.cca.Amount;
 import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaName;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.CcaBuilder;
@@ -54,6 +63,19 @@ public class AddressBookParserTest {
         assertEquals(new CreateStudentCommand(person), command);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " roster.csv");
+        assertEquals(new ImportCommand(Paths.get("roster.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(
+                ExportCommand.COMMAND_WORD + " students roster.csv");
+        assertEquals(new ExportCommand(Paths.get("roster.csv"), TableWriter.Format.CSV), command);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -74,6 +96,13 @@ public class AddressBookParserTest {
         assertEquals(new DeleteCcaCommand(INDEX_FIRST_CCA), command);
     }
 
+    @Test
+    public void parseCommand_bulkAttend() throws Exception {
+        RecordBulkAttendanceCommand command = (RecordBulkAttendanceCommand) parser.parseCommand(
+                RecordBulkAttendanceCommand.COMMAND_WORD + " all c/Basketball a/1");
+        assertEquals(new RecordBulkAttendanceCommand(new CcaName("Basketball"), new Amount(1)), command);
+    }
+
     @Test
     public void parseCommand_edit() throws Exception {
         Person person = new PersonBuilder().build();
@@ -89,6 +118,18 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -109,6 +150,29 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_argumentsAfterOtherWhitespace_passedToParser() throws Exception {
+        assertEquals(new DeleteStudentCommand(INDEX_FIRST_PERSON),
+                parser.parseCommand(" " + DeleteStudentCommand.COMMAND_WORD + "\t" + INDEX_FIRST_PERSON.getOneBased()));
+    }
+
+    @Test
+    public void register_newCommandWord_parsedByRegisteredParser() throws Exception {
+        parser.register("bye", arguments -> new ExitCommand());
+        assertTrue(parser.parseCommand("bye now") instanceof ExitCommand);
+
+        // the new command word does not affect other parsers
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> new AddressBookParser().parseCommand("bye"));
+    }
+
+    @Test
+    public void register_invalidCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> parser.register("", arguments -> new ExitCommand()));
+        assertThrows(IllegalArgumentException.class, () -> parser.register("good bye", arguments -> new ExitCommand()));
+        assertThrows(IllegalArgumentException.class, () ->
+                parser.register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand()));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
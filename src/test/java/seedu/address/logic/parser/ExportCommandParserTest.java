@@ -0,0 +1,62 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.TableWriter.Format;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.model.cca.CcaName;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_students_returnsExportCommand() {
+        assertParseSuccess(parser, " students  reports/term roster.csv ",
+                new ExportCommand(Paths.get("reports/term roster.csv"), Format.CSV));
+        assertParseSuccess(parser, " students roster.JSONL",
+                new ExportCommand(Paths.get("roster.JSONL"), Format.NDJSON));
+    }
+
+    @Test
+    public void parse_attendance_returnsExportCommand() {
+        // no CCAs -> all CCAs
+        assertParseSuccess(parser, " attendance week1.ndjson",
+                new ExportCommand(Paths.get("week1.ndjson"), Format.NDJSON, List.of()));
+
+        // several CCAs, in the order given
+        assertParseSuccess(parser, " attendance week1.csv c/Tennis c/Basketball",
+                new ExportCommand(Paths.get("week1.csv"), Format.CSV,
+                        List.of(new CcaName("Tennis"), new CcaName("Basketball"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+        // missing report or file path
+        assertParseFailure(parser, "   ", expectedMessage);
+        assertParseFailure(parser, " students", expectedMessage);
+
+        // unknown report
+        assertParseFailure(parser, " teachers staff.csv", expectedMessage);
+
+        // students report does not take CCAs
+        assertParseFailure(parser, " students roster.csv c/Tennis", expectedMessage);
+
+        // invalid CCA name
+        assertParseFailure(parser, " attendance week1.csv c/Ten*nis", CcaName.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_unsupportedFileType_throwsParseException() {
+        assertParseFailure(parser, " students roster.xlsx", ExportCommandParser.MESSAGE_UNSUPPORTED_FILE_TYPE);
+    }
+}
@@ -5,11 +5,23 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.cca.CcaName;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.query.AddressContainsTerm;
+import seedu.address.model.person.query.AttendanceRateTerm;
+import seedu.address.model.person.query.AttendanceRateTerm.Comparison;
+import seedu.address.model.person.query.CcaMemberTerm;
+import seedu.address.model.person.query.EmailPrefixTerm;
+import seedu.address.model.person.query.NameWordTerm;
+import seedu.address.model.person.query.PhonePrefixTerm;
+import seedu.address.model.person.query.RoleTerm;
+import seedu.address.model.person.query.StructuredQuery;
+import seedu.address.model.role.Role;
 
 public class FindCommandParserTest {
 
@@ -31,4 +43,43 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_conditions_returnsFindCommandWithStructuredQuery() {
+        StructuredQuery expectedQuery = new StructuredQuery(Arrays.asList(
+                Arrays.asList(new CcaMemberTerm(new CcaName("Basketball")),
+                        new AttendanceRateTerm(Optional.of(new CcaName("Basketball")), Comparison.LESS_THAN, 50)),
+                Arrays.asList(new RoleTerm(new Role("Captain"))),
+                Arrays.asList(new NameWordTerm("alice"), new PhonePrefixTerm("94"), new EmailPrefixTerm("alice@"),
+                        new AddressContainsTerm("Jurong West"), new AttendanceRateTerm(Optional.empty(),
+                                Comparison.AT_LEAST, 80))));
+        assertParseSuccess(parser, "c/Basketball AND att/Basketball < 50% OR r/Captain OR n/alice AND p/94 "
+                + "AND e/alice@ AND a/Jurong West AND att/>=80", new FindCommand(expectedQuery));
+    }
+
+    @Test
+    public void parse_operatorsNotBetweenConditions_keptInValues() {
+        // AND not followed by a condition -> part of the CCA name
+        StructuredQuery expectedQuery = new StructuredQuery(Arrays.asList(
+                Arrays.asList(new CcaMemberTerm(new CcaName("Arts AND Crafts")))));
+        assertParseSuccess(parser, "c/Arts AND Crafts", new FindCommand(expectedQuery));
+
+        // OR inside an address, followed by an operator between conditions
+        expectedQuery = new StructuredQuery(Arrays.asList(
+                Arrays.asList(new AddressContainsTerm("Cross OR Road"), new CcaMemberTerm(new CcaName("Basketball"))),
+                Arrays.asList(new RoleTerm(new Role("Captain")))));
+        assertParseSuccess(parser, "a/Cross OR Road AND c/Basketball OR r/Captain", new FindCommand(expectedQuery));
+    }
+
+    @Test
+    public void parse_invalidConditions_throwsParseException() {
+        assertParseFailure(parser, "c/Basketball AND n/Alice Pauline", FindCommandParser.MESSAGE_INVALID_NAME_WORD);
+        assertParseFailure(parser, "n/Alice Pauline", FindCommandParser.MESSAGE_INVALID_NAME_WORD);
+        assertParseFailure(parser, "p/9a", FindCommandParser.MESSAGE_INVALID_PHONE_PREFIX);
+        assertParseFailure(parser, "e/alice @", FindCommandParser.MESSAGE_INVALID_EMAIL_PREFIX);
+        assertParseFailure(parser, "a/", FindCommandParser.MESSAGE_INVALID_ADDRESS_PART);
+        assertParseFailure(parser, "att/Basketball~50", FindCommandParser.MESSAGE_INVALID_ATTENDANCE);
+        assertParseFailure(parser, "att/<101", AttendanceRateTerm.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "c/Basket*ball", CcaName.MESSAGE_CONSTRAINTS);
+    }
+
 }
@@ -0,0 +1,64 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.AMOUNT_DESC_ONE;
+import static seedu.address.logic.commands.CommandTestUtil.CCA_NAME_DESC_BASKETBALL;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_AMOUNT_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CCA_NAME_BASKETBALL;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.RecordBulkAttendanceCommand;
+import seedu.address.model.cca.Amount;
+import seedu.address.model.cca.CcaName;
+
+public class RecordBulkAttendanceCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RecordBulkAttendanceCommand.MESSAGE_USAGE);
+
+    private RecordBulkAttendanceCommandParser parser = new RecordBulkAttendanceCommandParser();
+
+    @Test
+    public void parse_indexesAndRanges_returnsRecordBulkAttendanceCommand() {
+        RecordBulkAttendanceCommand expectedCommand = new RecordBulkAttendanceCommand(
+                Arrays.asList(Index.fromOneBased(1), Index.fromOneBased(3), Index.fromOneBased(4),
+                        Index.fromOneBased(5)),
+                new CcaName(VALID_CCA_NAME_BASKETBALL), new Amount(1));
+        assertParseSuccess(parser, "1,3-5" + CCA_NAME_DESC_BASKETBALL + AMOUNT_DESC_ONE, expectedCommand);
+
+        // whitespace separated, repeated indexes
+        assertParseSuccess(parser, " 1 3 4-5 5" + CCA_NAME_DESC_BASKETBALL + AMOUNT_DESC_ONE, expectedCommand);
+    }
+
+    @Test
+    public void parse_allMembers_returnsRecordBulkAttendanceCommand() {
+        RecordBulkAttendanceCommand expectedCommand = new RecordBulkAttendanceCommand(
+                new CcaName(VALID_CCA_NAME_BASKETBALL), new Amount(1));
+        assertParseSuccess(parser, "all" + CCA_NAME_DESC_BASKETBALL + AMOUNT_DESC_ONE, expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // missing indexes
+        assertParseFailure(parser, CCA_NAME_DESC_BASKETBALL + AMOUNT_DESC_ONE, MESSAGE_INVALID_FORMAT);
+
+        // backwards range
+        assertParseFailure(parser, "5-3" + CCA_NAME_DESC_BASKETBALL + AMOUNT_DESC_ONE, MESSAGE_INVALID_FORMAT);
+
+        // invalid index
+        assertParseFailure(parser, "1,0" + CCA_NAME_DESC_BASKETBALL + AMOUNT_DESC_ONE, MESSAGE_INVALID_FORMAT);
+
+        // invalid amount
+        assertParseFailure(parser, "1,2" + CCA_NAME_DESC_BASKETBALL + INVALID_AMOUNT_DESC,
+                Amount.MESSAGE_CONSTRAINTS);
+
+        // missing cca name prefix
+        assertParseFailure(parser, "1,2 Basketball" + AMOUNT_DESC_ONE, MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCcas.ACTING;
+import static seedu.address.testutil.TypicalCcas.BASKETBALL;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.StringReader;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.parser.StudentCsvParser.ParsedStudents;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaName;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.role.Role;
+import seedu.address.testutil.TypicalCcas;
+
+public class StudentCsvParserTest {
+    private static final Map<CcaName, Cca> TYPICAL_CCAS = TypicalCcas.getTypicalCcas().stream()
+            .collect(Collectors.toMap(Cca::getCcaName, cca -> cca));
+
+    private final StudentCsvParser parser = new StudentCsvParser(TYPICAL_CCAS);
+
+    @Test
+    public void parse_validRows_success() throws Exception {
+        ParsedStudents parsedStudents = parse("Email,Name,Phone,Address,CCAs\n"
+                + "amy@example.com,Amy Bee,11111111,\"Block 312, Amy Street 1\",\n"
+                + "\n"
+                + "bob@example.com,Bob Choo,22222222,\"Block 123, Bobby Street 3\",Basketball:Captain; Acting\n");
+
+        Person expectedBob = BOB.addCca(BASKETBALL).addRole(BASKETBALL, new Role("Captain")).addCca(ACTING);
+        assertEquals(Map.of(2, AMY, 4, expectedBob), parsedStudents.getStudentsByLineNumber());
+        assertTrue(parsedStudents.getErrorsByLineNumber().isEmpty());
+    }
+
+    @Test
+    public void parse_invalidRows_errorsReportedAndRestParsed() throws Exception {
+        ParsedStudents parsedStudents = parse("name,phone,email,address,ccas\n"
+                + "Amy Bee,11111111,amy@example.com,Amy Street,\n"
+                + "R@chel,33333333,rachel@example.com,Street,\n"
+                + "Rachel,3,rachel@example.com,Street,\n"
+                + "Rachel,33333333,rachel@example.com,Street,Chess\n"
+                + "Rachel,33333333,rachel@example.com,Street,Basketball;Basketball\n"
+                + "Rachel,33333333,rachel@example.com,Street,Basketball:President\n"
+                + "Rachel,33333333,rachel@example.com\n");
+
+        assertEquals(1, parsedStudents.getStudentsByLineNumber().size());
+        assertEquals(Map.of(
+                3, Name.MESSAGE_CONSTRAINTS,
+                4, Phone.MESSAGE_CONSTRAINTS,
+                5, String.format(StudentCsvParser.MESSAGE_CCA_NOT_FOUND, "Chess"),
+                6, String.format(StudentCsvParser.MESSAGE_REPEATED_CCA, "Basketball"),
+                7, Messages.MESSAGE_ROLE_NOT_FOUND,
+                8, String.format(StudentCsvParser.MESSAGE_WRONG_FIELD_COUNT, 5, 3)),
+                parsedStudents.getErrorsByLineNumber());
+    }
+
+    @Test
+    public void parse_invalidHeader_throwsParseException() {
+        assertThrows(ParseException.class, StudentCsvParser.MESSAGE_MISSING_HEADER, () -> parse(""));
+        assertThrows(ParseException.class, String.format(StudentCsvParser.MESSAGE_MISSING_COLUMN, "address"), () ->
+                parse("name,phone,email\n"));
+        assertThrows(ParseException.class, String.format(StudentCsvParser.MESSAGE_UNKNOWN_COLUMN, "age"), () ->
+                parse("name,phone,email,address,age\n"));
+        assertThrows(ParseException.class, String.format(StudentCsvParser.MESSAGE_UNKNOWN_COLUMN, "Name"), () ->
+                parse("name,phone,email,address,Name\n"));
+    }
+
+    private ParsedStudents parse(String csv) throws Exception {
+        return parser.parse(new StringReader(csv));
+    }
+}
@@ -90,6 +90,19 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getVersion_changesOnlyWhenDataChanges() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        assertEquals(initialVersion, addressBook.getVersion());
+
+        for (Cca cca : ALICE.getCcas()) {
+            addressBook.addCca(cca);
+        }
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() != initialVersion);
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
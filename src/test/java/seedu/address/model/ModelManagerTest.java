@@ -9,6 +9,8 @@ import static seedu.address.testutil.TypicalCcas.ACTING;
 import static seedu.address.testutil.TypicalCcas.BASKETBALL;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -18,12 +20,15 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaName;
 import seedu.address.model.cca.exceptions.CcaNotFoundException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.CcaBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
@@ -144,9 +149,169 @@ public class ModelManagerTest {
         // Ensure CCA is removed from person
         Person updatedPerson = modelManager.getFilteredPersonList().get(0);
         assertFalse(updatedPerson.getCcas().contains(BASKETBALL));
+        assertTrue(modelManager.getCcaMembers(BASKETBALL.getCcaName()).isEmpty());
     }
 
+    @Test
+    public void getCcaMembers_typicalAddressBook_returnsOnlyMembers() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertEquals(Arrays.asList(ALICE, GEORGE), modelManager.getCcaMembers(BASKETBALL.getCcaName()));
+        assertTrue(modelManager.getCcaMembers(new CcaName("Chess")).isEmpty());
+    }
+
+    @Test
+    public void countIndexedPersons_typicalAddressBook_sameAsListed() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertEquals(2, modelManager.countCcaMembers(BASKETBALL.getCcaName()));
+        assertEquals(0, modelManager.countCcaMembers(new CcaName("Chess")));
+        assertEquals(2, modelManager.countPersonsByNameWord("MEIER"));
+        assertEquals(0, modelManager.countPersonsByNameWord("nobody"));
+    }
+
+    @Test
+    public void setCca_renamedCca_membersMoved() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Cca renamedBasketball = new CcaBuilder(BASKETBALL).withCcaName("Streetball").build();
+        modelManager.setCca(BASKETBALL, renamedBasketball);
+
+        assertTrue(modelManager.getCcaMembers(BASKETBALL.getCcaName()).isEmpty());
+        List<Person> members = modelManager.getCcaMembers(renamedBasketball.getCcaName());
+        assertEquals(2, members.size());
+        assertTrue(members.stream().allMatch(member -> member.hasCca(renamedBasketball)));
+    }
+
+    @Test
+    public void commitTransaction_severalChanges_publishedAsOneChange() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        modelManager.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) changes::add);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("22222222").build();
+
+        modelManager.beginTransaction();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.setPerson(BENSON, editedBenson);
+        assertTrue(modelManager.hasPerson(editedAlice));
+        assertTrue(changes.isEmpty());
+        assertTrue(modelManager.getFilteredPersonList().contains(ALICE));
+
+        modelManager.commitTransaction();
+        assertEquals(1, changes.size());
+        assertFalse(modelManager.isInTransaction());
+        assertTrue(modelManager.getFilteredPersonList().containsAll(Arrays.asList(editedAlice, editedBenson)));
+    }
 
+    @Test
+    public void commitTransaction_noChanges_addressBookVersionUnchanged() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        long version = modelManager.getAddressBookVersion();
+        modelManager.beginTransaction();
+        modelManager.commitTransaction();
+        assertEquals(version, modelManager.getAddressBookVersion());
+    }
+
+    @Test
+    public void rollbackTransaction_changesDiscarded() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.beginTransaction();
+        modelManager.deletePerson(ALICE);
+        assertFalse(modelManager.hasPerson(ALICE));
+
+        modelManager.rollbackTransaction();
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), modelManager);
+    }
+
+    @Test
+    public void rollbackTransaction_setCca_membersAndListsUnchanged() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        long version = modelManager.getAddressBookVersion();
+        Cca renamedBasketball = new CcaBuilder(BASKETBALL).withCcaName("Streetball").build();
+
+        modelManager.beginTransaction();
+        modelManager.setCca(BASKETBALL, renamedBasketball);
+        assertEquals(2, modelManager.getCcaMembers(renamedBasketball.getCcaName()).size());
+        assertTrue(modelManager.getCcaMembers(BASKETBALL.getCcaName()).isEmpty());
+        assertTrue(modelManager.getCcaList().contains(BASKETBALL));
+
+        modelManager.rollbackTransaction();
+        assertEquals(version, modelManager.getAddressBookVersion());
+        assertTrue(modelManager.getCcaMembers(renamedBasketball.getCcaName()).isEmpty());
+        assertTrue(modelManager.getCcaMembers(BASKETBALL.getCcaName()).containsAll(Arrays.asList(ALICE, GEORGE)));
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), modelManager);
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void beginTransaction_transactionInProgress_throwsIllegalStateException() {
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, modelManager::beginTransaction);
+    }
+
+    @Test
+    public void commitTransaction_noTransaction_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, modelManager::commitTransaction);
+        assertThrows(IllegalStateException.class, modelManager::rollbackTransaction);
+    }
+
+    @Test
+    public void undoAddressBook_setCca_previousStateRestored() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Cca renamedBasketball = new CcaBuilder(BASKETBALL).withCcaName("Streetball").build();
+        modelManager.setCca(BASKETBALL, renamedBasketball);
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), modelManager);
+        List<Person> members = modelManager.getCcaMembers(BASKETBALL.getCcaName());
+        assertEquals(2, members.size());
+        assertTrue(members.containsAll(Arrays.asList(ALICE, GEORGE)));
+        assertFalse(modelManager.canUndoAddressBook());
+
+        modelManager.redoAddressBook();
+        assertFalse(modelManager.hasCca(BASKETBALL));
+        assertEquals(2, modelManager.getCcaMembers(renamedBasketball.getCcaName()).size());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_severalSteps_undoneInReverseOrder() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.deleteCca(BASKETBALL);
+        modelManager.commitAddressBook();
+        modelManager.deletePerson(BENSON);
+        modelManager.addPerson(new PersonBuilder().build());
+        modelManager.commitAddressBook();
+        modelManager.setAddressBook(new AddressBook());
+
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasPerson(BENSON));
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.hasPerson(BENSON));
+        assertFalse(modelManager.hasCca(BASKETBALL));
+        modelManager.undoAddressBook();
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), modelManager);
+    }
+
+    @Test
+    public void redoAddressBook_newChangeAfterUndo_nothingToRedo() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.deletePerson(ALICE);
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.canRedoAddressBook());
+
+        modelManager.deletePerson(BENSON);
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canRedoAddressBook());
+        assertThrows(IllegalStateException.class, modelManager::redoAddressBook);
+    }
+
+    @Test
+    public void undoAddressBook_transactionInProgress_throwsIllegalStateException() {
+        modelManager.addPerson(new PersonBuilder().build());
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, modelManager::undoAddressBook);
+    }
 
     @Test
     public void equals() {
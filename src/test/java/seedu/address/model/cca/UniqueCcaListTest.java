@@ -1,11 +1,15 @@
 package seedu.address.model.cca;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CCA_NAME_BASKETBALL;
+import static seedu.address.testutil.TypicalCcas.BADMINTON;
 import static seedu.address.testutil.TypicalCcas.BASKETBALL;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.cca.exceptions.CcaNotFoundException;
@@ -68,4 +72,47 @@ public class UniqueCcaListTest {
     public void setCcas_nullUniqueCcaList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCcaList.setCcas((UniqueCcaList) null));
     }
+
+    @Test
+    public void getCca_ccaNotInList_throwsCcaNotFoundException() {
+        assertThrows(CcaNotFoundException.class, () -> uniqueCcaList.getCca(BASKETBALL.getCcaName()));
+    }
+
+    @Test
+    public void setCca_editedCcaRenamed_lookedUpByNewName() {
+        uniqueCcaList.add(BASKETBALL);
+        uniqueCcaList.setCca(BASKETBALL, BADMINTON);
+        assertFalse(uniqueCcaList.contains(BASKETBALL.getCcaName()));
+        assertEquals(BADMINTON, uniqueCcaList.getCca(BADMINTON.getCcaName()));
+    }
+
+    @Test
+    public void setCca_editedCcaHasNonUniqueIdentity_throwsDuplicateCcaException() {
+        uniqueCcaList.add(BASKETBALL);
+        uniqueCcaList.add(BADMINTON);
+        assertThrows(DuplicateCcaException.class, () -> uniqueCcaList.setCca(BASKETBALL, BADMINTON));
+    }
+
+    @Test
+    public void remove_existingCca_noLongerLookedUp() {
+        uniqueCcaList.add(BASKETBALL);
+        uniqueCcaList.remove(BASKETBALL);
+        assertFalse(uniqueCcaList.contains(BASKETBALL));
+        assertThrows(CcaNotFoundException.class, () -> uniqueCcaList.getCca(BASKETBALL.getCcaName()));
+    }
+
+    @Test
+    public void remove_ccaWithSameNameButOtherFields_throwsCcaNotFoundException() {
+        uniqueCcaList.add(BASKETBALL);
+        Cca editedBasketball = new CcaBuilder(BASKETBALL).withTotalSessions(BASKETBALL.getTotalSessions()
+                .getSessionCount() + 1).build();
+        assertThrows(CcaNotFoundException.class, () -> uniqueCcaList.remove(editedBasketball));
+        assertThrows(CcaNotFoundException.class, () -> uniqueCcaList.setCca(editedBasketball, BADMINTON));
+        assertEquals(BASKETBALL, uniqueCcaList.getCca(BASKETBALL.getCcaName()));
+    }
+
+    @Test
+    public void setCcas_listWithDuplicateCcas_throwsDuplicateCcaException() {
+        assertThrows(DuplicateCcaException.class, () -> uniqueCcaList.setCcas(Arrays.asList(BASKETBALL, BASKETBALL)));
+    }
 }
@@ -11,6 +11,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ROLE_CAPTAIN;
 import static seedu.address.testutil.TypicalCcas.BASKETBALL;
 import static seedu.address.testutil.TypicalCcas.TENNIS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -25,6 +26,8 @@ import seedu.address.model.cca.Amount;
 import seedu.address.model.cca.Cca;
 import seedu.address.model.cca.CcaInformation;
 import seedu.address.model.cca.CcaName;
+import seedu.address.model.cca.exceptions.CcaNotFoundException;
+import seedu.address.model.cca.exceptions.DuplicateCcaException;
 import seedu.address.model.role.Role;
 import seedu.address.testutil.CcaBuilder;
 import seedu.address.testutil.PersonBuilder;
@@ -113,6 +116,44 @@ public class PersonTest {
         assertEquals(expectedAlice, aliceWithAttendance);
     }
 
+    @Test
+    public void addRole_originalPersonUnchanged() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person expectedAlice = new PersonBuilder(ALICE).build();
+
+        Person aliceWithRole = alice.addRole(BASKETBALL, new Role(VALID_ROLE_CAPTAIN));
+        assertEquals(new Role(VALID_ROLE_CAPTAIN), aliceWithRole.getRole(BASKETBALL));
+        assertEquals(expectedAlice, alice);
+
+        Person aliceWithoutRole = aliceWithRole.removeRole(BASKETBALL);
+        assertEquals(expectedAlice, aliceWithoutRole);
+        assertEquals(new Role(VALID_ROLE_CAPTAIN), aliceWithRole.getRole(BASKETBALL));
+    }
+
+    @Test
+    public void getCcaInformation_ccaWithSameNameButOtherFields_matchedByName() {
+        Cca editedBasketball = new CcaBuilder(BASKETBALL)
+                .withTotalSessions(BASKETBALL.getTotalSessions().getSessionCount() + 1).build();
+        CcaInformation ccaInformation = ALICE.getCcaInformation(editedBasketball);
+        assertEquals(BASKETBALL, ccaInformation.getCca());
+        assertEquals(ALICE.getCcaInformation(BASKETBALL), ccaInformation);
+
+        assertThrows(CcaNotFoundException.class, () -> ALICE.getCcaInformation(TENNIS));
+    }
+
+    @Test
+    public void getCcaInformations_modified_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> ALICE.getCcaInformations().clear());
+    }
+
+    @Test
+    public void constructor_repeatedCca_throwsDuplicateCcaException() {
+        Set<CcaInformation> ccaInformations = new HashSet<>(ALICE.getCcaInformations());
+        ccaInformations.add(new CcaInformation(BASKETBALL, Role.DEFAULT_ROLE, BASKETBALL.createNewAttendance()));
+        assertThrows(DuplicateCcaException.class, () -> new PersonBuilder(ALICE)
+                .withCcaInformations(ccaInformations).build());
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
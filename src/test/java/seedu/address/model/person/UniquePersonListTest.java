@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 //import static seedu.address.logic.commands.CommandTestUtil.VALID_ROLE_PRESIDENT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.util.Arrays;
@@ -57,6 +58,26 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_uniquePersons_success() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(BENSON, BOB));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, BOB));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAliceEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BENSON,
+                bobWithAliceEmail)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -107,6 +128,58 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonKeepsNameButTakesOtherPhone_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonChangesIdentity_oldIdentityFreed() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.containsExcept(ALICE, BOB));
+        assertFalse(uniquePersonList.containsExcept(ALICE, ALICE));
+    }
+
+    @Test
+    public void findByNameKeywords_keywordsOfAnyCase_matchingPersonsReturned() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Arrays.asList(ALICE), uniquePersonList.findByNameKeywords(Arrays.asList("PAULINE", "Carl")));
+        assertEquals(2, uniquePersonList.findByNameKeywords(Arrays.asList("alice", "choo", "bob")).size());
+        assertTrue(uniquePersonList.findByNameKeywords(Arrays.asList("Ali", "Alice Pauline", "")).isEmpty());
+    }
+
+    @Test
+    public void findByNameKeywords_personRenamed_indexUpdated() {
+        uniquePersonList.add(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertTrue(uniquePersonList.findByNameKeywords(Arrays.asList("alice")).isEmpty());
+        assertEquals(Arrays.asList(renamedAlice), uniquePersonList.findByNameKeywords(Arrays.asList("pauline")));
+
+        uniquePersonList.remove(renamedAlice);
+        assertTrue(uniquePersonList.findByNameKeywords(Arrays.asList("pauline")).isEmpty());
+    }
+
+    @Test
+    public void findByNamePrefix_prefixOfAnyCase_matchingPersonsReturned() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Arrays.asList(ALICE), uniquePersonList.findByNamePrefix("PAU"));
+        assertEquals(Arrays.asList(BOB), uniquePersonList.findByNamePrefix("choo"));
+        assertEquals(2, uniquePersonList.findByNamePrefix("").size());
+        assertTrue(uniquePersonList.findByNamePrefix("alicex").isEmpty());
+
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.findByNamePrefix("pau").isEmpty());
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -117,6 +190,23 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void remove_samePersonWithOtherFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
+    @Test
+    public void remove_personAmongOthers_removesOnlyThatPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(new PersonBuilder(BENSON).build());
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
@@ -0,0 +1,58 @@
+package seedu.address.model.person.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCcas.BASKETBALL;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.cca.CcaName;
+import seedu.address.model.person.query.AttendanceRateTerm.Comparison;
+
+public class AttendanceRateTermTest {
+
+    private static final Optional<CcaName> BASKETBALL_NAME = Optional.of(BASKETBALL.getCcaName());
+
+    @Test
+    public void constructor_invalidPercentage_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AttendanceRateTerm(Optional.empty(),
+                Comparison.LESS_THAN, 101));
+        assertThrows(IllegalArgumentException.class, () -> new AttendanceRateTerm(Optional.empty(),
+                Comparison.LESS_THAN, -1));
+    }
+
+    @Test
+    public void test_attendanceInCca_comparedWithoutRounding() {
+        // Alice attended 10 of 15 basketball sessions
+        assertTrue(new AttendanceRateTerm(BASKETBALL_NAME, Comparison.MORE_THAN, 66).test(ALICE));
+        assertTrue(new AttendanceRateTerm(BASKETBALL_NAME, Comparison.LESS_THAN, 67).test(ALICE));
+        assertFalse(new AttendanceRateTerm(BASKETBALL_NAME, Comparison.AT_LEAST, 67).test(ALICE));
+        assertFalse(new AttendanceRateTerm(Optional.of(new CcaName("Chess")), Comparison.AT_LEAST, 0).test(ALICE));
+    }
+
+    @Test
+    public void test_noCcaGiven_anyCcaPasses() {
+        // Alice attended 8 of 10 acting sessions
+        assertTrue(new AttendanceRateTerm(Optional.empty(), Comparison.EQUAL_TO, 80).test(ALICE));
+        assertFalse(new AttendanceRateTerm(BASKETBALL_NAME, Comparison.EQUAL_TO, 80).test(ALICE));
+    }
+
+    @Test
+    public void findCandidates_ccaGiven_passingMembersReturned() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertEquals(Optional.of(Arrays.asList(GEORGE)),
+                new AttendanceRateTerm(BASKETBALL_NAME, Comparison.MORE_THAN, 70).findCandidates(model));
+        assertEquals(Optional.empty(),
+                new AttendanceRateTerm(Optional.empty(), Comparison.MORE_THAN, 70).findCandidates(model));
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model.person.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCcas.BASKETBALL;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.cca.CcaName;
+import seedu.address.model.person.Person;
+import seedu.address.model.role.Role;
+import seedu.address.testutil.ModelStub;
+
+public class StructuredQueryTest {
+
+    private static final QueryTerm BASKETBALL_MEMBER = new CcaMemberTerm(BASKETBALL.getCcaName());
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_emptyGroup_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new StructuredQuery(Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> new StructuredQuery(
+                Arrays.asList(Arrays.asList(BASKETBALL_MEMBER), Collections.emptyList())));
+    }
+
+    @Test
+    public void test_allTermsOfAnyGroup_returnsTrue() {
+        StructuredQuery query = new StructuredQuery(Arrays.asList(
+                Arrays.asList(BASKETBALL_MEMBER, new RoleTerm(new Role("vice-president"))),
+                Arrays.asList(new PhonePrefixTerm("8765"))));
+        assertTrue(query.test(ALICE));
+        assertTrue(query.test(GEORGE));
+        assertTrue(query.test(DANIEL));
+        assertFalse(query.test(BENSON));
+    }
+
+    @Test
+    public void findMatches_severalGroups_matchesOfEachGroupReturnedOnce() {
+        StructuredQuery query = new StructuredQuery(Arrays.asList(
+                Arrays.asList(new NameWordTerm("alice")),
+                Arrays.asList(BASKETBALL_MEMBER)));
+        List<Person> matches = query.findMatches(model);
+        assertEquals(2, matches.size());
+        assertTrue(matches.containsAll(Arrays.asList(ALICE, GEORGE)));
+    }
+
+    @Test
+    public void findMatches_noIndexedTerm_sameAsTestingEveryPerson() {
+        StructuredQuery query = new StructuredQuery(Arrays.asList(
+                Arrays.asList(new AddressContainsTerm("STREET"), new EmailPrefixTerm("a")),
+                Arrays.asList(new AttendanceRateTerm(Optional.empty(), AttendanceRateTerm.Comparison.LESS_THAN, 50))));
+        List<Person> expectedMatches = model.getAddressBook().getPersonList().stream()
+                .filter(query)
+                .collect(Collectors.toList());
+        assertEquals(expectedMatches.size(), query.findMatches(model).size());
+        assertTrue(query.findMatches(model).containsAll(expectedMatches));
+    }
+
+    @Test
+    public void findMatches_indexedTerms_onlyFewestCandidatesLookedUp() {
+        ModelStub modelStub = new ModelStub() {
+            @Override
+            public int countCcaMembers(CcaName ccaName) {
+                return 2;
+            }
+
+            @Override
+            public int countPersonsByNameWord(String word) {
+                return 1;
+            }
+
+            @Override
+            public List<Person> findPersonsByNameKeywords(Collection<String> keywords) {
+                return Arrays.asList(ALICE);
+            }
+        };
+        // the stub fails if the CCA members or every person of its address book are asked for
+        StructuredQuery query = new StructuredQuery(Arrays.asList(
+                Arrays.asList(new PhonePrefixTerm("9435"), BASKETBALL_MEMBER, new NameWordTerm("alice"))));
+        assertEquals(Arrays.asList(ALICE), query.findMatches(modelStub));
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncAddressBookStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_fileWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        BlockingAddressBookStorage blockingStorage = new BlockingAddressBookStorage(filePath);
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(blockingStorage);
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(original);
+
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        blockingStorage.release();
+        storage.flushAddressBook();
+
+        assertEquals(expected, new AddressBook(blockingStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_coalesced() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        BlockingAddressBookStorage blockingStorage = new BlockingAddressBookStorage(filePath);
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(blockingStorage);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        blockingStorage.awaitFirstSave();
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        blockingStorage.release();
+        storage.flushAddressBook();
+
+        // the first save was in progress, the other two are written as one
+        assertEquals(2, blockingStorage.savedAddressBooks.size());
+        assertEquals(original, new AddressBook(blockingStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_saveFailed_failureReportedOnceAndRetriedByNextSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AtomicBoolean isFailing = new AtomicBoolean(true);
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isFailing.get()) {
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        });
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertThrows(IOException.class, "dummy IO exception", storage::flushAddressBook);
+
+        // the failure has been reported, and the address book is not written again
+        storage.flushAddressBook();
+        assertFalse(Files.exists(filePath));
+
+        isFailing.set(false);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} whose saves do not complete until {@link #release()} is called.
+     */
+    private static class BlockingAddressBookStorage extends JsonAddressBookStorage {
+        private final CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+
+        BlockingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        void awaitFirstSave() throws InterruptedException {
+            firstSaveStarted.await();
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            firstSaveStarted.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            savedAddressBooks.add(addressBook);
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        assertFalse(new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath)).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_smallChange_appendsToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        Person editedBenson = new PersonBuilder(BENSON).withAddress("1 Changed Road").build();
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+
+        // snapshot untouched, changes are in the journal
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+
+        // a fresh storage replays the journal on top of the snapshot
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath))
+                .readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedData_nothingWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(original);
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        List<String> journal = Files.readAllLines(journalPath);
+
+        storage.saveAddressBook(original);
+        assertEquals(journal, Files.readAllLines(journalPath));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 2);
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original); // journal is full, so this save compacts it
+
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        ReadOnlyAddressBook snapshotOnly = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(snapshotOnly));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // snapshot replaced behind the storage's back, e.g. edited by hand
+        AddressBook replacement = new AddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath))
+                .readAddressBook().get();
+        assertEquals(replacement, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_otherSnapshotWithSameSizeAndModifiedTime_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // snapshot edited in the same millisecond without changing its size
+        FileTime modifiedTime = Files.getLastModifiedTime(filePath);
+        String snapshot = Files.readString(filePath);
+        String editedSnapshot = snapshot.replace(ALICE.getPhone().value, "94351254");
+        assertNotEquals(snapshot, editedSnapshot);
+        Files.writeString(filePath, editedSnapshot);
+        Files.setLastModifiedTime(filePath, modifiedTime);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath))
+                .readAddressBook().get();
+        assertEquals(new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList(),
+                readBack.getPersonList());
+        assertFalse(readBack.getPersonList().contains(HOON));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordDropped() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        Files.writeString(journalPath, Files.readString(journalPath) + "{\"list\":\"persons\",\"ind");
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertEquals(expected, new AddressBook(reopened.readAddressBook().get()));
+
+        // the next save starts a fresh journal instead of appending to the damaged one
+        original.addPerson(IDA);
+        reopened.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertTrue(new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList().contains(IDA));
+    }
+}
@@ -1,21 +1,27 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaName;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.role.Role;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "R@chel";
@@ -26,6 +32,7 @@ public class JsonAdaptedPersonTest {
     private static final String INVALID_ROLE = "#member";
     private static final int INVALID_ATTENDED_SESSIONS = -1;
     private static final int INVALID_TOTAL_SESSIONS = -5;
+    private static final String VALID_UNKNOWN_CCA_NAME = "Chess";
 
     private static final String VALID_NAME = BENSON.getName().toString();
     private static final String VALID_PHONE = BENSON.getPhone().toString();
@@ -34,11 +41,13 @@ public class JsonAdaptedPersonTest {
     private static final List<JsonAdaptedCcaInformation> VALID_CCA_INFORMATION = BENSON.getCcaInformations().stream()
             .map(JsonAdaptedCcaInformation::new)
             .collect(Collectors.toList());
+    private static final Map<CcaName, Cca> VALID_CCAS = BENSON.getCcas().stream()
+            .collect(Collectors.toMap(Cca::getCcaName, cca -> cca));
 
     @Test
     public void toModelType_validPersonDetails_returnsPerson() throws Exception {
         JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON);
-        assertEquals(BENSON, person.toModelType());
+        assertEquals(BENSON, person.toModelType(VALID_CCAS));
     }
 
     @Test
@@ -46,7 +55,7 @@ public class JsonAdaptedPersonTest {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_CCA_INFORMATION);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> person.toModelType(VALID_CCAS));
     }
 
     @Test
@@ -54,7 +63,7 @@ public class JsonAdaptedPersonTest {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(null, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_CCA_INFORMATION);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> person.toModelType(VALID_CCAS));
     }
 
     @Test
@@ -62,7 +71,7 @@ public class JsonAdaptedPersonTest {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_CCA_INFORMATION);
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> person.toModelType(VALID_CCAS));
     }
 
     @Test
@@ -70,7 +79,7 @@ public class JsonAdaptedPersonTest {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, null, VALID_EMAIL, VALID_ADDRESS, VALID_CCA_INFORMATION);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> person.toModelType(VALID_CCAS));
     }
 
     @Test
@@ -78,7 +87,7 @@ public class JsonAdaptedPersonTest {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_ADDRESS, VALID_CCA_INFORMATION);
         String expectedMessage = Email.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> person.toModelType(VALID_CCAS));
     }
 
     @Test
@@ -86,7 +95,7 @@ public class JsonAdaptedPersonTest {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, null, VALID_ADDRESS, VALID_CCA_INFORMATION);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> person.toModelType(VALID_CCAS));
     }
 
     @Test
@@ -94,7 +103,7 @@ public class JsonAdaptedPersonTest {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_ADDRESS, VALID_CCA_INFORMATION);
         String expectedMessage = Address.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> person.toModelType(VALID_CCAS));
     }
 
     @Test
@@ -102,27 +111,68 @@ public class JsonAdaptedPersonTest {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, null, VALID_CCA_INFORMATION);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> person.toModelType(VALID_CCAS));
     }
 
     @Test
     public void toModelType_invalidCcaInformation_throwsIllegalValueException() {
         List<JsonAdaptedCcaInformation> invalidCcaInformation = new ArrayList<>(VALID_CCA_INFORMATION);
-        invalidCcaInformation.add(new JsonAdaptedCcaInformation(
+        invalidCcaInformation.add(new JsonAdaptedCcaInformation(null,
                 new JsonAdaptedCca(INVALID_CCA_NAME, new ArrayList<>(), INVALID_TOTAL_SESSIONS),
                 new JsonAdaptedRole(INVALID_ROLE),
                 INVALID_ATTENDED_SESSIONS)
         );
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, invalidCcaInformation);
-        assertThrows(IllegalValueException.class, person::toModelType);
+        assertThrows(IllegalValueException.class, () -> person.toModelType(VALID_CCAS));
     }
 
     @Test
     public void toModelType_nullCcaInformation_returnsPersonWithEmptyCcaInformation() throws Exception {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, null);
-        assertEquals(0, person.toModelType().getCcaInformations().size()); // Ensure empty set, no null exception
+        // Ensure empty set, no null exception
+        assertEquals(0, person.toModelType(VALID_CCAS).getCcaInformations().size());
+    }
+
+    @Test
+    public void toModelType_unknownCcaName_throwsIllegalValueException() {
+        List<JsonAdaptedCcaInformation> ccaInformation = new ArrayList<>(VALID_CCA_INFORMATION);
+        ccaInformation.add(new JsonAdaptedCcaInformation(VALID_UNKNOWN_CCA_NAME, null,
+                new JsonAdaptedRole(Role.DEFAULT_ROLE), 0));
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, ccaInformation);
+        String expectedMessage = String.format(JsonAdaptedCcaInformation.MESSAGE_UNKNOWN_CCA, VALID_UNKNOWN_CCA_NAME);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> person.toModelType(VALID_CCAS));
+    }
+
+    @Test
+    public void toModelType_repeatedCca_throwsIllegalValueException() {
+        List<JsonAdaptedCcaInformation> ccaInformation = new ArrayList<>(VALID_CCA_INFORMATION);
+        ccaInformation.add(VALID_CCA_INFORMATION.get(0));
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, ccaInformation);
+        CcaName repeatedCcaName = BENSON.getCcaInformations().iterator().next().getCcaName();
+        String expectedMessage = String.format(JsonAdaptedPerson.MESSAGE_DUPLICATE_CCA, repeatedCcaName);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> person.toModelType(VALID_CCAS));
+    }
+
+    @Test
+    public void toModelType_embeddedCca_resolvedToAddressBookCca() throws Exception {
+        // format used by data files written before CCAs were referred to by name
+        List<JsonAdaptedCcaInformation> embeddedCcaInformation = BENSON.getCcaInformations().stream()
+                .map(ccaInformation -> new JsonAdaptedCcaInformation(null,
+                        new JsonAdaptedCca(ccaInformation.getCca()), new JsonAdaptedRole(ccaInformation.getRole()),
+                        ccaInformation.getAttendance().getSessionsAttended().getSessionCount()))
+                .collect(Collectors.toList());
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, embeddedCcaInformation);
+
+        Person modelPerson = person.toModelType(VALID_CCAS);
+        assertEquals(BENSON, modelPerson);
+        for (Cca cca : modelPerson.getCcas()) {
+            assertSame(VALID_CCAS.get(cca.getCcaName()), cca);
+        }
     }
 
 }
@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path INVALID_CCA_FILE = TEST_DATA_FOLDER.resolve("invalidCcaAddressBook.json");
+    private static final Path NOT_JSON_FILE = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+            "notJsonFormatAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        // persons come before ccas in this file
+        assertEquals(TypicalPersons.getTypicalAddressBook(), read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_invalidCca_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> read(INVALID_CCA_FILE));
+    }
+
+    @Test
+    public void read_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> read(NOT_JSON_FILE));
+    }
+
+    @Test
+    public void read_newerFormatVersion_throwsIllegalValueException() throws Exception {
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_UNSUPPORTED_FORMAT_VERSION,
+                JsonSerializableAddressBook.FORMAT_VERSION + 1);
+        Path filePath = testFolder.resolve("newer.json");
+        FileUtil.writeToFile(filePath, "{ \"formatVersion\": " + (JsonSerializableAddressBook.FORMAT_VERSION + 1)
+                + ", \"ccas\": [], \"persons\": [] }");
+        assertThrows(IllegalValueException.class, expectedMessage, () -> read(filePath));
+    }
+
+    private AddressBook read(Path filePath) throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return JsonAddressBookReader.read(parser);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.cca.Cca;
+import seedu.address.model.cca.CcaName;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalCcas;
+
+public class ParallelPersonConverterTest {
+    private static final Map<CcaName, Cca> TYPICAL_CCAS = TypicalCcas.getTypicalCcas().stream()
+            .collect(Collectors.toMap(Cca::getCcaName, cca -> cca));
+
+    @Test
+    public void toModelType_validPersons_orderPreserved() throws Exception {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = getTypicalPersons().stream()
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList());
+        assertEquals(getTypicalPersons(), ParallelPersonConverter.toModelType(jsonAdaptedPersons, TYPICAL_CCAS));
+    }
+
+    @Test
+    public void toModelType_severalInvalidPersons_firstErrorReported() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        jsonAdaptedPersons.add(new JsonAdaptedPerson(ALICE));
+        jsonAdaptedPersons.add(new JsonAdaptedPerson("R@chel", "94351253", "rachel@example.com", "Street",
+                new ArrayList<>()));
+        jsonAdaptedPersons.add(new JsonAdaptedPerson("Rachel", "94351253", "example.com", "Street",
+                new ArrayList<>()));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                ParallelPersonConverter.toModelType(jsonAdaptedPersons, TYPICAL_CCAS));
+
+        jsonAdaptedPersons.remove(1);
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, () ->
+                ParallelPersonConverter.toModelType(jsonAdaptedPersons, TYPICAL_CCAS));
+    }
+
+    @Test
+    public void setPersons_duplicatePersons_throwsIllegalValueException() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person bensonWithAlicePhone = new PersonBuilder(BENSON).withPhone(ALICE.getPhone().value).build();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                ParallelPersonConverter.setPersons(addressBook, Arrays.asList(ALICE, bensonWithAlicePhone)));
+    }
+}